@@ -2,58 +2,88 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import de.tum.cit.fop.maze.assets.GameAssets;
 import de.tum.cit.fop.maze.entities.Player;
 import de.tum.cit.fop.maze.objects.ExitPoint;
 
+import java.util.List;
+
 /**
  * Represents the HUD in the maze game.
- * The HUD displays the player's lives, collected fish, and the direction to the nearest exit.
+ * The HUD displays the player's lives, collected fish, the direction to the nearest exit and the minimap.
+ * It is drawn in screen coordinates by its own camera, and the fish counter text is only laid out
+ * again when the count changes, so drawing the HUD allocates nothing.
  */
 public class HUD {
+    // Largest side of the minimap on screen in pixels
+    private static final float MINIMAP_SIZE = 200;
+    private static final float MINIMAP_MARGIN = 20;
+
     private final Player player;
     private final MazeMap mazeMap;
     private final BitmapFont font;
     private final TextureRegion arrowTexture;
     private final TextureRegion fullHeartTexture;
     private final TextureRegion emptyHeartTexture;
+    private final Minimap minimap;
     private final Vector2 exitDirection = new Vector2();
+    private final Vector2 closestExit = new Vector2();
+    private final OrthographicCamera screenCamera = new OrthographicCamera();
+    private final GlyphLayout fishLayout = new GlyphLayout();
+    private final StringBuilder fishText = new StringBuilder();
+    private int displayedFish = -1;
 
     /**
      * Constructs a new HUD object.
      *
      * @param player  the player whose status is displayed
      * @param mazeMap the maze map containing the exits
+     * @param assets  the shared game assets
+     * @param minimap the minimap of the maze
      */
-    public HUD(Player player, MazeMap mazeMap) {
+    public HUD(Player player, MazeMap mazeMap, GameAssets assets, Minimap minimap) {
         this.player = player;
         this.mazeMap = mazeMap;
+        this.minimap = minimap;
         this.font = new BitmapFont();
         this.font.getData().setScale(1.5f);
         this.font.setColor(Color.WHITE);
-        this.arrowTexture = new TextureRegion(new Texture("arrow.png"));
-        TextureAtlas atlas = new TextureAtlas("world.atlas");
-        TextureRegion[][] heartRegions = atlas.findRegion("objects").split(MazeMap.TILE_SIZE, MazeMap.TILE_SIZE);
+        this.arrowTexture = assets.getRegion("arrow");
+        TextureRegion[][] heartRegions = assets.getTiles("objects", MazeMap.TILE_SIZE, MazeMap.TILE_SIZE);
         this.fullHeartTexture = heartRegions[0][4];
         this.emptyHeartTexture = heartRegions[0][8];
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    /**
+     * Fits the HUD to a new window size.
+     *
+     * @param width  the width of the window in pixels
+     * @param height the height of the window in pixels
+     */
+    public void resize(int width, int height) {
+        screenCamera.setToOrtho(false, width, height);
     }
 
     /**
-     * Renders the HUD.
+     * Renders the HUD, switching the batch to screen coordinates.
      *
      * @param batch          the SpriteBatch used for rendering
      * @param playerPosition the current position of the player
      */
     public void render(SpriteBatch batch, Vector2 playerPosition) {
+        batch.setProjectionMatrix(screenCamera.combined);
+
         // Draw hearts for lives
         int lives = player.getLives();
         float heartX = 20;
-        float heartY = Gdx.graphics.getHeight() - 40;
+        float heartY = screenCamera.viewportHeight - 40;
         int maxLives = Player.PLAYER_LIVES;
 
         for (int i = 0; i < maxLives; i++) {
@@ -62,11 +92,17 @@ public void render(SpriteBatch batch, Vector2 playerPosition) {
         }
 
         // Draw fish counter
-        font.draw(batch, "Fish: " + player.getCollectedFish(), 20, heartY - 10);
+        int fish = player.getCollectedFish();
+        if (fish != displayedFish) {
+            displayedFish = fish;
+            fishText.setLength(0);
+            fishText.append("Fish: ").append(fish);
+            fishLayout.setText(font, fishText);
+        }
+        font.draw(batch, fishLayout, 20, heartY - 10);
 
         // Draw exit arrow
-        Vector2 closestExit = findClosestExit(playerPosition);
-        if (closestExit != null) {
+        if (findClosestExit(playerPosition, closestExit)) {
             exitDirection.set(closestExit).sub(playerPosition);
             float angle = exitDirection.angleDeg();
 
@@ -78,38 +114,44 @@ public void render(SpriteBatch batch, Vector2 playerPosition) {
                     1, 1,
                     angle - 90);
         }
+
+        // Draw the minimap in the top right corner as a single quad
+        float scale = MINIMAP_SIZE / Math.max(minimap.getWidth(), minimap.getHeight());
+        float minimapWidth = minimap.getWidth() * scale, minimapHeight = minimap.getHeight() * scale;
+        batch.draw(minimap.getTexture(),
+                screenCamera.viewportWidth - MINIMAP_MARGIN - minimapWidth,
+                screenCamera.viewportHeight - MINIMAP_MARGIN - minimapHeight,
+                minimapWidth, minimapHeight);
     }
 
     /**
      * Finds the closest exit to the player's current position.
      *
      * @param playerPosition the current position of the player
-     * @return the position of the closest exit, or null if no exits are found
+     * @param closest        set to the center of the closest exit
+     * @return false if there are no exits
      */
-    private Vector2 findClosestExit(Vector2 playerPosition) {
-        Vector2 closest = null;
+    private boolean findClosestExit(Vector2 playerPosition, Vector2 closest) {
         float minDistance = Float.MAX_VALUE;
+        List<ExitPoint> exitPoints = mazeMap.getExitPoints();
 
-        for (ExitPoint exit : mazeMap.getExitPoints()) {
-            Vector2 exitPos = new Vector2(
-                    exit.getX() + 0.5f,
-                    exit.getY() + 0.5f
-            );
-            float distance = exitPos.dst2(playerPosition);
+        for (int i = 0; i < exitPoints.size(); i++) {
+            ExitPoint exit = exitPoints.get(i);
+            float distance = Vector2.dst2(exit.getX() + 0.5f, exit.getY() + 0.5f, playerPosition.x, playerPosition.y);
 
             if (distance < minDistance) {
                 minDistance = distance;
-                closest = exitPos;
+                closest.set(exit.getX() + 0.5f, exit.getY() + 0.5f);
             }
         }
-        return closest;
+        return !exitPoints.isEmpty();
     }
 
     /**
      * Disposes of the resources used by the HUD.
      */
     public void dispose() {
+        // The textures belong to the shared atlas, which is released with the level
         font.dispose();
-        arrowTexture.getTexture().dispose();
     }
 }
@@ -1,15 +1,26 @@
 package de.tum.cit.fop.maze;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
+import de.tum.cit.fop.maze.assets.GameAssets;
 import de.tum.cit.fop.maze.entities.Enemy;
-import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.map.ChunkManager;
+import de.tum.cit.fop.maze.map.DecorationLayer;
+import de.tum.cit.fop.maze.map.EntityRegistry;
+import de.tum.cit.fop.maze.map.MapLoader;
+import de.tum.cit.fop.maze.map.MazeChunk;
+import de.tum.cit.fop.maze.map.StaticLayerCache;
+import de.tum.cit.fop.maze.map.TileGrid;
+import de.tum.cit.fop.maze.map.WallAutotiler;
+import de.tum.cit.fop.maze.map.WallColliderBuilder;
 import de.tum.cit.fop.maze.objects.*;
 import de.tum.cit.fop.maze.pathfinding.Algorithm;
+import de.tum.cit.fop.maze.render.AnimationClock;
 
 import java.util.*;
 
@@ -21,10 +32,28 @@
 public class MazeMap {
     private final TextureRegion[][] carpetTiles, wallTiles, furnitureTiles, thingTiles, objectTiles, grassTiles;
     private final TextureRegion tree1Texture, tree2Texture, entryTexture, exitTexture, trapTexture, enemyTexture, keyTexture, pathTexture, grassTexture, wallHorTexture, wallVerTexture, cornerRUTexture, cornerRDTexture, cornerLUTexture, cornerLDTexture;
-    private final Map<String, List<GameObject>> gameObjects = new HashMap<>();
-    private final List<ExitPoint> exitPoints = new ArrayList<>();
-    private final List<LaserTrap> laserTraps = new ArrayList<>();
+    private TileGrid grid;
+    private ChunkManager chunkManager;
+    private WallColliderBuilder wallColliderBuilder;
+    private StaticLayerCache staticLayerCache;
+    private WallAutotiler wallAutotiler;
+    private final GameAssets assets;
+    // Plays the looping animations of all pickups
+    private final AnimationClock animationClock = new AnimationClock();
+    // Wall texture for each neighbour mask of the autotiler
+    private final TextureRegion[] wallTextureByMask = new TextureRegion[16];
+    // Grass and trees outside the maze bounds
+    private DecorationLayer decorationLayer;
+    // Enemies, traps, pickups and exits by type, so they can be iterated without scanning the grid
+    private final EntityRegistry entities = new EntityRegistry();
+    // Components of the objects the systems of the game work on
+    private final Engine engine = new Engine();
     private int mazeWidth, mazeHeight;
+    // Progress of building the game objects, see buildRows
+    private int builtRows;
+    private boolean hasEntry, hasExit;
+    // Tiles visible to the camera in the last rendered frame (inclusive), see updateVisibleArea
+    private int visibleMinX, visibleMinY, visibleMaxX = -1, visibleMaxY = -1;
     private String mapPath;
     private final World world;
     public int entryX, entryY;
@@ -43,15 +72,42 @@ public enum WallType {
      * @param windowWidth  Window width for calculating decorative elements
      * @param windowHeight Window height for calculating decorative elements
      * @param world        Box2D physics world for collision bodies
+     * @param assets       Shared game assets holding all sprites
      */
-    public MazeMap(String mapPath, int windowWidth, int windowHeight, World world) {
-        TextureAtlas atlas = new TextureAtlas("world.atlas");
-        carpetTiles = splitRegion(atlas.findRegion("carpets"), TILE_SIZE, TILE_SIZE);
-        wallTiles = splitRegion(atlas.findRegion("walls_floor_doors"), TILE_SIZE, TILE_SIZE);
-        furnitureTiles = splitRegion(atlas.findRegion("furniture"), TILE_SIZE, TILE_SIZE);
-        thingTiles = splitRegion(atlas.findRegion("things"), TILE_SIZE, TILE_SIZE);
-        objectTiles = splitRegion(atlas.findRegion("objects"), TILE_SIZE, TILE_SIZE);
-        grassTiles = splitRegion(atlas.findRegion("basictiles"), TILE_SIZE, TILE_SIZE);
+    public MazeMap(String mapPath, int windowWidth, int windowHeight, World world, GameAssets assets) {
+        this(world, assets);
+        // Load the maze from the map file
+        loadMaze(mapPath, windowWidth, windowHeight);
+    }
+
+    /**
+     * Constructs a new MazeMap for a grid that was already loaded, e.g. on a background thread.
+     * The game objects are created afterwards by calling {@link #buildRows(int)} until it returns true.
+     *
+     * @param grid          Grid holding the tile types of the map
+     * @param wallAutotiler Autotiler with the precomputed wall masks of the grid
+     * @param world         Box2D physics world for collision bodies
+     * @param assets        Shared game assets holding all sprites
+     */
+    public MazeMap(TileGrid grid, WallAutotiler wallAutotiler, World world, GameAssets assets) {
+        this(world, assets);
+        startBuilding(grid, wallAutotiler);
+    }
+
+    /**
+     * Constructs a new MazeMap without any maze, only preparing the textures
+     *
+     * @param world  Box2D physics world for collision bodies
+     * @param assets Shared game assets holding all sprites
+     */
+    private MazeMap(World world, GameAssets assets) {
+        this.assets = assets;
+        carpetTiles = assets.getTiles("carpets", TILE_SIZE, TILE_SIZE);
+        wallTiles = assets.getTiles("walls_floor_doors", TILE_SIZE, TILE_SIZE);
+        furnitureTiles = assets.getTiles("furniture", TILE_SIZE, TILE_SIZE);
+        thingTiles = assets.getTiles("things", TILE_SIZE, TILE_SIZE);
+        objectTiles = assets.getTiles("objects", TILE_SIZE, TILE_SIZE);
+        grassTiles = assets.getTiles("basictiles", TILE_SIZE, TILE_SIZE);
         this.world = world;
 
         entryTexture = carpetTiles[6][2];
@@ -69,247 +125,243 @@ public MazeMap(String mapPath, int windowWidth, int windowHeight, World world) {
         cornerRDTexture = wallTiles[2][2];
         cornerLUTexture = wallTiles[0][0];
         cornerLDTexture = wallTiles[2][0];
-
-        // Load the maze from the properties file
-        loadMaze(mapPath, windowWidth, windowHeight);
-    }
-
-    /**
-     * Splits a texture region into a grid of smaller texture regions
-     *
-     * @param region     Source texture region to split
-     * @param tileWidth  Width of each tile
-     * @param tileHeight Height of each tile
-     * @return 2D array of texture regions
-     */
-    private TextureRegion[][] splitRegion(TextureRegion region, int tileWidth, int tileHeight) {
-        int cols = region.getRegionWidth() / tileWidth;
-        int rows = region.getRegionHeight() / tileHeight;
-        TextureRegion[][] tiles = new TextureRegion[rows][cols];
-        for (int y = 0; y < rows; y++) {
-            for (int x = 0; x < cols; x++) {
-                tiles[y][x] = new TextureRegion(region, x * tileWidth, y * tileHeight, tileWidth, tileHeight);
-            }
+        for (int mask = 0; mask < wallTextureByMask.length; mask++) {
+            wallTextureByMask[mask] = getWallTexture(WallAutotiler.getWallType(mask));
         }
-        return tiles;
     }
 
     /**
-     * Loads maze structure from a properties file
+     * Loads maze structure from a map file, either in the .properties or in the .mazebin format
      *
-     * @param filePath     Path to the map properties file
+     * @param filePath     Path to the map file
      * @param windowWidth  Window width for decorative elements
      * @param windowHeight Window height for decorative elements
      */
     public void loadMaze(String filePath, int windowWidth, int windowHeight) {
         try {
             mapPath = filePath;
-            Properties props = new Properties();
-            props.load(Gdx.files.internal(filePath).reader());
-
-            int maxX = 0, maxY = 0;
-            for (String key : props.stringPropertyNames()) {
-                String[] coords = key.split(",");
-                int x = Integer.parseInt(coords[0]);
-                int y = Integer.parseInt(coords[1]);
-                if (x > maxX) maxX = x;
-                if (y > maxY) maxY = y;
-            }
+            TileGrid loadedGrid = MapLoader.load(Gdx.files.internal(filePath));
+            startBuilding(loadedGrid, new WallAutotiler(loadedGrid));
+            buildRows(mazeHeight);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
 
-            mazeWidth = maxX + 1;
-            mazeHeight = maxY + 1;
-
-            boolean hasEntry = false, hasExit = false;
-            for (int y = 0; y < mazeHeight; y++) {
-                for (int x = 0; x < mazeWidth; x++) {
-                    String key = x + "," + y;
-                    if (props.containsKey(key)) {
-                        int type = Integer.parseInt(props.getProperty(key));
-                        if (type != 0) {
-                            switch (type) {
-                                case 1 -> {
-                                    if (!hasEntry && !isCorner(x, y)) {
-                                        addGameObject(key, new EntryPoint(x, y, TILE_SIZE, entryTexture));
-                                        hasEntry = true;
-                                        entryX = x;
-                                        entryY = y;
-                                    }
-                                }
-                                case 2 -> {
-                                    if (!isCorner(x, y)) {
-                                        ExitPoint exitPoint = new ExitPoint(x, y, TILE_SIZE, exitTexture, world);
-                                        addGameObject(key, exitPoint);
-                                        exitPoints.add(exitPoint);
-                                        hasExit = true;
-                                    }
-                                }
-                                case 3 -> {
-                                    LaserTrap laserTrap = new LaserTrap(x, y, world);
-                                    addGameObject(key, new Path(x, y, TILE_SIZE, pathTexture));
-                                    addGameObject(key, laserTrap);
-                                    laserTraps.add(laserTrap);
-                                }
-                                case 4 -> {
-                                    addGameObject(key, new Path(x, y, TILE_SIZE, pathTexture));
-                                    addGameObject(key, new Enemy(world, this, new Vector2(x, y), pathfinder));
-                                }
-                                case 5 -> {
-                                    addGameObject(key, new Path(x, y, TILE_SIZE, pathTexture));
-                                    Fish fish = new Fish(x, y, world);
-                                    addGameObject(key, fish);
-                                }
-                                case 6 -> {
-                                    SlowTile slowTile = new SlowTile(x, y, world);
-                                    addGameObject(key, slowTile);
-                                }
-                                case 7 -> {
-                                    Heart heart = new Heart(x, y, world);
-                                    addGameObject(key, new Path(x, y, TILE_SIZE, pathTexture));
-                                    addGameObject(key, heart);
-                                }
-                                case 8 -> {
-                                    Ability ability = new Ability(x, y, world);
-                                    addGameObject(key, new Path(x, y, TILE_SIZE, pathTexture));
-                                    addGameObject(key, ability);
-                                }
-                            }
-                        }
-                    } else {
-                        addGameObject(key, new Path(x, y, TILE_SIZE, pathTexture));
-                    }
-                }
+    /**
+     * Prepares building the game objects of a loaded grid
+     *
+     * @param grid          Grid holding the tile types of the map
+     * @param wallAutotiler Autotiler with the precomputed wall masks of the grid
+     */
+    private void startBuilding(TileGrid grid, WallAutotiler wallAutotiler) {
+        this.grid = grid;
+        this.wallAutotiler = wallAutotiler;
+        mazeWidth = grid.getWidth();
+        mazeHeight = grid.getHeight();
+        builtRows = 0;
+        hasEntry = false;
+        hasExit = false;
+    }
+
+    /**
+     * Creates the game objects and Box2D bodies of the next rows of the maze. Building in small batches
+     * lets the caller spread the work over several frames.
+     *
+     * @param rowCount Maximum number of rows to build
+     * @return true once every row is built and the maze is ready to be played
+     * @throws IllegalStateException if the maze has no entry or no exit point
+     */
+    public boolean buildRows(int rowCount) {
+        if (chunkManager != null) return true;
+
+        int endRow = Math.min(mazeHeight, builtRows + rowCount);
+        for (; builtRows < endRow; builtRows++) {
+            for (int x = 0; x < mazeWidth; x++) {
+                buildTile(x, builtRows);
             }
+        }
+        if (builtRows < mazeHeight) return false;
 
-            if (!hasEntry) throw new IllegalStateException("No entry point defined in the maze file!");
-            if (!hasExit) throw new IllegalStateException("No exit point defined in the maze file!");
+        if (!hasEntry) throw new IllegalStateException("No entry point defined in the maze file!");
+        if (!hasExit) throw new IllegalStateException("No exit point defined in the maze file!");
 
-            // Fill outside the maze with grass
-            fillWithGrassAndTrees(windowWidth, windowHeight);
+        // Fill outside the maze with grass
+        decorationLayer = new DecorationLayer(mazeWidth, mazeHeight, TILE_SIZE, grassTexture, tree1Texture, tree2Texture);
 
-            // Each island of connected wall blocks should have proper textures that allow connecting them
-            for (int y = 0; y < mazeHeight; y++) {
-                for (int x = 0; x < mazeWidth; x++) {
-                    String key = x + "," + y;
-                    if (props.containsKey(key) && Integer.parseInt(props.getProperty(key)) == 0 && !gameObjects.containsKey(key)) {
-                        dfsWalls(key, props);
-                    }
-                }
+        // Paths and walls are only created for the chunks around the player, see loadChunk
+        wallColliderBuilder = new WallColliderBuilder(grid, ChunkManager.CHUNK_SIZE);
+        staticLayerCache = new StaticLayerCache(grid, ChunkManager.CHUNK_SIZE);
+        chunkManager = new ChunkManager(grid, new ChunkManager.ChunkLoader() {
+            @Override
+            public void load(MazeChunk chunk) {
+                loadChunk(chunk);
             }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+            @Override
+            public void unload(MazeChunk chunk) {
+                unloadChunk(chunk);
+            }
+        });
+        return true;
     }
 
     /**
-     * Adds a game object to the map at specified coordinates
+     * Gets how much of the maze has been built so far
      *
-     * @param key    Map coordinates in "x,y" format
-     * @param object Game object to add
+     * @return Progress between 0 and 1
      */
-    private void addGameObject(String key, GameObject object) {
-        gameObjects.computeIfAbsent(key, k -> new ArrayList<>()).add(object);
+    public float getBuildProgress() {
+        return mazeHeight == 0 ? 0 : (float) builtRows / mazeHeight;
     }
 
     /**
-     * Fills areas outside the main maze with grass and trees
+     * Creates the permanent game objects of a tile, i.e. everything except paths and walls which are
+     * created per chunk
      *
-     * @param windowWidth  Window width for calculating fill area
-     * @param windowHeight Window height for calculating fill area
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
      */
-    private void fillWithGrassAndTrees(int windowWidth, int windowHeight) {
-        // Calculate padding size (how far out from the maze to extend the grass)
-        int padding = Math.max(50, Math.max(mazeWidth, mazeHeight));
-        int startX = -padding, endX = mazeWidth + padding, startY = -padding, endY = mazeHeight + padding;
-
-        // Fill the entire area with grass and occasional trees
-        for (int y = startY; y < endY; y++) {
-            for (int x = startX; x < endX; x++) {
-                String key = x + "," + y;
-                if (x >= 0 && y >= 0 && x < mazeWidth && y < mazeHeight) continue;
-                if (!gameObjects.containsKey(key)) {
-                    addGameObject(key, new Path(x, y, TILE_SIZE, grassTexture));
-                    double random = Math.random();
-                    if (random < 0.08) {
-                        addGameObject(key, new Path(x, y, TILE_SIZE, tree1Texture));
-                    } else if (random < 0.12) {
-                        addGameObject(key, new Path(x, y, TILE_SIZE, tree2Texture));
-                    }
+    private void buildTile(int x, int y) {
+        byte type = grid.getTile(x, y);
+        // Unknown codes and ignored entry/exit points leave the cell empty
+        grid.setTile(x, y, TileGrid.EMPTY);
+        switch (type) {
+            case TileGrid.PATH -> grid.setTile(x, y, TileGrid.PATH);
+            case TileGrid.WALL -> grid.setTile(x, y, TileGrid.WALL);
+            case TileGrid.ENTRY -> {
+                if (!hasEntry && !isCorner(x, y)) {
+                    grid.setTile(x, y, TileGrid.ENTRY);
+                    grid.setGround(x, y, new EntryPoint(x, y, TILE_SIZE, entryTexture));
+                    hasEntry = true;
+                    entryX = x;
+                    entryY = y;
+                }
+            }
+            case TileGrid.EXIT -> {
+                if (!isCorner(x, y)) {
+                    ExitPoint exitPoint = new ExitPoint(x, y, TILE_SIZE, exitTexture, world);
+                    grid.setTile(x, y, TileGrid.EXIT);
+                    grid.setGround(x, y, exitPoint);
+                    entities.addExitPoint(exitPoint);
+                    hasExit = true;
                 }
             }
+            case TileGrid.LASER_TRAP -> placeOnPath(x, y, TileGrid.LASER_TRAP, new LaserTrap(x, y, world, assets));
+            case TileGrid.ENEMY ->
+                    placeOnPath(x, y, TileGrid.ENEMY, new Enemy(world, new Vector2(x, y), assets));
+            case TileGrid.FISH -> placeOnPath(x, y, TileGrid.FISH, new Fish(x, y, world, assets));
+            case TileGrid.SLOW_TILE -> {
+                grid.setTile(x, y, TileGrid.SLOW_TILE);
+                grid.setGround(x, y, new SlowTile(x, y, world, assets));
+            }
+            case TileGrid.HEART -> placeOnPath(x, y, TileGrid.HEART, new Heart(x, y, world, assets));
+            case TileGrid.ABILITY -> placeOnPath(x, y, TileGrid.ABILITY, new Ability(x, y, world, assets));
         }
     }
 
     /**
-     * Performs depth-first search to generate proper wall textures
+     * Creates the path and wall tiles of a chunk, along with a single merged collision body for its walls.
+     * Entry points, exit points and slow tiles are created once at load time and are left untouched.
      *
-     * @param key   Starting coordinates in "x,y" format
-     * @param props Map properties containing wall data
+     * @param chunk Chunk that became active
      */
-    private void dfsWalls(String key, Properties props) {
-        Stack<String> stack = new Stack<>();
-        Set<String> visited = new HashSet<>();
-        stack.push(key);
-        while (!stack.isEmpty()) {
-            String current = stack.pop();
-            if (visited.contains(current)) continue;
-            visited.add(current);
-
-            String[] coords = current.split(",");
-            int x = Integer.parseInt(coords[0]);
-            int y = Integer.parseInt(coords[1]);
-            WallType wallType = findWallType(x, y, props);
-            TextureRegion current_texture = getWallTexture(wallType);
-            addGameObject(current, new Wall(x, y, TILE_SIZE, current_texture, world));
-
-            if (isWallAt(x + 1, y, props) && !visited.contains((x + 1) + "," + y)) stack.push((x + 1) + "," + y);
-            if (isWallAt(x - 1, y, props) && !visited.contains((x - 1) + "," + y)) stack.push((x - 1) + "," + y);
-            if (isWallAt(x, y + 1, props) && !visited.contains(x + "," + (y + 1))) stack.push(x + "," + (y + 1));
-            if (isWallAt(x, y - 1, props) && !visited.contains(x + "," + (y - 1))) stack.push(x + "," + (y - 1));
+    private void loadChunk(MazeChunk chunk) {
+        for (int y = chunk.getStartY(); y < chunk.getEndY(); y++) {
+            for (int x = chunk.getStartX(); x < chunk.getEndX(); x++) {
+                byte type = grid.getTile(x, y);
+                if (type == TileGrid.EMPTY || grid.getGround(x, y) != null) continue;
+                GameObject tile = type == TileGrid.WALL
+                        ? new Wall(x, y, TILE_SIZE, wallTextureByMask[wallAutotiler.getMask(x, y)])
+                        : new Path(x, y, TILE_SIZE, pathTexture);
+                grid.setGround(x, y, tile);
+                chunk.addObject(tile);
+            }
         }
+        chunk.setWallBody(wallColliderBuilder.build(world, chunk));
+        staticLayerCache.build(chunk);
     }
 
     /**
-     * Determines the appropriate wall type for a given position
+     * Releases the path and wall tiles of a chunk and destroys its wall collision body.
      *
-     * @param x     X coordinate of wall
-     * @param y     Y coordinate of wall
-     * @param props Map properties containing wall data
-     * @return WallType enum representing the wall configuration
+     * @param chunk Chunk that went out of range
      */
-    private WallType findWallType(int x, int y, Properties props) {
-        boolean isUp = isWallAt(x, y + 1, props);
-        boolean isDown = isWallAt(x, y - 1, props);
-        boolean isRight = isWallAt(x + 1, y, props);
-        boolean isLeft = isWallAt(x - 1, y, props);
-        int neighbors_count = (isUp ? 1 : 0) + (isDown ? 1 : 0) + (isLeft ? 1 : 0) + (isRight ? 1 : 0);
-
-        return switch (neighbors_count) {
-            case 1 -> (isUp || isDown) ? WallType.VERTICAL : WallType.HORIZONTAL;
-            case 2 -> {
-                if (isRight && isLeft) yield WallType.HORIZONTAL;
-                if (isUp && isDown) yield WallType.VERTICAL;
-                if (isUp && isRight) yield WallType.CORNER_LD;
-                if (isUp) yield WallType.CORNER_RD;
-                if (isRight) yield WallType.CORNER_LU;
-                yield WallType.CORNER_RU;
-            }
-            default -> WallType.HORIZONTAL;
-        };
+    private void unloadChunk(MazeChunk chunk) {
+        for (GameObject tile : chunk.getObjects()) {
+            grid.setGround(tile.getX(), tile.getY(), null);
+        }
+        chunk.clearObjects();
+        staticLayerCache.release(chunk);
+        if (chunk.getWallBody() != null) {
+            world.destroyBody(chunk.getWallBody());
+            chunk.setWallBody(null);
+        }
+    }
+
+    /**
+     * Loads the chunks around the camera view and the player, and unloads the ones that went out of range.
+     *
+     * @param camera         Camera showing the maze
+     * @param playerPosition Position of the player in tile units
+     */
+    public void updateChunks(OrthographicCamera camera, Vector2 playerPosition) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        int minX = (int) Math.floor(Math.min((camera.position.x - halfWidth) / TILE_SIZE, playerPosition.x));
+        int minY = (int) Math.floor(Math.min((camera.position.y - halfHeight) / TILE_SIZE, playerPosition.y));
+        int maxX = (int) Math.ceil(Math.max((camera.position.x + halfWidth) / TILE_SIZE, playerPosition.x));
+        int maxY = (int) Math.ceil(Math.max((camera.position.y + halfHeight) / TILE_SIZE, playerPosition.y));
+        chunkManager.update(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Turns a path tile into a wall or a wall tile into a path. The textures of the neighbouring walls
+     * are updated and the loaded chunks around the tile are rebuilt.
+     *
+     * @param x    X coordinate of the tile
+     * @param y    Y coordinate of the tile
+     * @param wall true to place a wall, false to remove it
+     */
+    public void setWall(int x, int y, boolean wall) {
+        byte type = grid.getTile(x, y);
+        if (type != TileGrid.WALL && type != TileGrid.PATH) {
+            throw new IllegalArgumentException("Only path and wall tiles can be changed, found tile type " + type + " at " + x + "," + y);
+        }
+        grid.setTile(x, y, wall ? TileGrid.WALL : TileGrid.PATH);
+        wallAutotiler.update(x, y);
+        if (pathfinder != null) {
+            pathfinder.getRegions().invalidate();
+        }
+        chunkManager.reload(x - 1, y - 1, x + 1, y + 1);
+    }
+
+    /**
+     * Checks if the chunk containing the given tile is loaded, meaning its walls have collision bodies
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return true if the tile is inside the maze and its chunk is active
+     */
+    public boolean isChunkActiveAt(int x, int y) {
+        return chunkManager.isActiveAt(x, y);
     }
 
     /**
-     * Checks if there's a wall at specified coordinates
+     * Places an item or entity on top of a path tile
      *
-     * @param x     X coordinate to check
-     * @param y     Y coordinate to check
-     * @param props Map properties containing wall data
-     * @return true if a wall exists at the location
+     * @param x      X coordinate of the tile
+     * @param y      Y coordinate of the tile
+     * @param type   Tile type to store in the grid
+     * @param object Item or entity placed on the tile
      */
-    private boolean isWallAt(int x, int y, Properties props) {
-        if (x < 0 || y < 0 || x >= mazeWidth || y >= mazeHeight) return false;
-        String key = x + "," + y;
-        return props.containsKey(key) && Integer.parseInt(props.getProperty(key)) == 0;
+    private void placeOnPath(int x, int y, byte type, GameObject object) {
+        grid.setTile(x, y, type);
+        grid.setOverlay(x, y, object);
+        entities.add(object);
+        if (object.getEntity() != null) {
+            engine.addEntity(object.getEntity());
+        }
     }
 
     /**
@@ -349,25 +401,77 @@ public int getMazeHeight() {
     }
 
     /**
-     * Renders all game objects in the maze
+     * Renders the grass border visible to the camera, then the ground tiles of the loaded chunks.
+     * The items, traps and entities on top of them are drawn by the sprite render system
      *
-     * @param batch SpriteBatch used for rendering
+     * @param batch  SpriteBatch used for rendering
+     * @param camera Camera showing the maze
      */
-    public void render(SpriteBatch batch) {
-        for (List<GameObject> objects : gameObjects.values()) {
-            for (GameObject object : objects) {
-                object.render(batch);
-            }
+    public void render(SpriteBatch batch, OrthographicCamera camera) {
+        updateVisibleArea(camera);
+        decorationLayer.render(batch, camera);
+        // The ground layer never changes between chunk loads, it is drawn from the chunk caches
+        // which can't be interleaved with the batch
+        batch.end();
+        staticLayerCache.render(camera, chunkManager.getActiveChunks(), visibleMinX, visibleMinY, visibleMaxX, visibleMaxY);
+        batch.begin();
+    }
+
+    /**
+     * Computes the rectangle of tiles visible to the camera, with a margin of one tile for sprites
+     * overlapping their tile, clipped to the maze
+     *
+     * @param camera Camera showing the maze
+     */
+    private void updateVisibleArea(OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        visibleMinX = Math.max(0, (int) Math.floor((camera.position.x - halfWidth) / TILE_SIZE) - 1);
+        visibleMinY = Math.max(0, (int) Math.floor((camera.position.y - halfHeight) / TILE_SIZE) - 1);
+        visibleMaxX = Math.min(mazeWidth - 1, (int) Math.floor((camera.position.x + halfWidth) / TILE_SIZE) + 1);
+        visibleMaxY = Math.min(mazeHeight - 1, (int) Math.floor((camera.position.y + halfHeight) / TILE_SIZE) + 1);
+    }
+
+    /**
+     * Checks if a position was inside the area visible to the camera in the last rendered frame
+     *
+     * @param position Position in tile units, e.g. the position of a Box2D body
+     * @return true if something drawn at the position can be seen
+     */
+    public boolean isVisible(Vector2 position) {
+        return position.x >= visibleMinX && position.x < visibleMaxX + 1 &&
+                position.y >= visibleMinY && position.y < visibleMaxY + 1;
+    }
+
+    /**
+     * Checks if a tile was inside the area visible to the camera in the last rendered frame
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return true if something drawn on the tile can be seen
+     */
+    public boolean isTileVisible(int x, int y) {
+        return x >= visibleMinX && x <= visibleMaxX && y >= visibleMinY && y <= visibleMaxY;
+    }
+
+    /**
+     * Releases the loaded chunks and their sprite caches
+     */
+    public void dispose() {
+        if (chunkManager != null) {
+            chunkManager.unloadAll();
+        }
+        if (staticLayerCache != null) {
+            staticLayerCache.dispose();
         }
     }
 
-    public Map<String, List<GameObject>> getGameObjects() {
-        return gameObjects;
+    public TileGrid getGrid() {
+        return grid;
     }
 
     public boolean isWall(int x, int y) {
-        GameObject object = getGameObjectAt(x, y);
-        return object instanceof Wall;
+        return grid.isWall(x, y);
     }
 
     /**
@@ -378,37 +482,19 @@ public boolean isWall(int x, int y) {
      * @return true if the position is an exit or entrance
      */
     public boolean isExitOrEntrance(int x, int y) {
-        String key = x + "," + y;
-        List<GameObject> objects = gameObjects.get(key);
-        if (objects != null) {
-            return objects.stream()
-                    .anyMatch(o -> o instanceof ExitPoint || o instanceof EntryPoint);
-        }
-        return false;
+        return grid.isExitOrEntrance(x, y);
     }
 
     /**
-     * Checks if a given position is walkable
+     * Checks if a given position is walkable for enemies: a walkable tile of the grid
+     * (see {@link TileGrid#isWalkable(byte)}) that is not an exit or entrance
      *
      * @param x X coordinate to check
      * @param y Y coordinate to check
      * @return true if the position is walkable
      */
     public boolean isWalkable(int x, int y) {
-        return !isWall(x, y) && !isExitOrEntrance(x, y);
-    }
-
-    /**
-     * Gets the game object at a given position
-     *
-     * @param x X coordinate to check
-     * @param y Y coordinate to check
-     * @return GameObject at the specified position
-     */
-    private GameObject getGameObjectAt(int x, int y) {
-        String key = x + "," + y;
-        List<GameObject> objects = gameObjects.get(key);
-        return objects != null ? objects.stream().findFirst().orElse(null) : null;
+        return grid.isWalkable(x, y) && !isExitOrEntrance(x, y);
     }
 
     /**
@@ -417,48 +503,49 @@ private GameObject getGameObjectAt(int x, int y) {
      * @param object GameObject to remove
      */
     public void removeGameObject(GameObject object) {
-        String key = object.getX() + "," + object.getY();
-        List<GameObject> objects = gameObjects.get(key);
-        if (objects != null) {
-            objects.remove(object);
-            if (objects.isEmpty()) gameObjects.remove(key);
+        if (grid.removeOverlay(object)) {
+            entities.remove(object);
+            if (object.getEntity() != null) {
+                engine.removeEntity(object.getEntity());
+            }
         }
     }
 
     /**
-     * Gets the enemy objects in the maze
+     * Gets the enemy objects in the maze, always in the same order
      *
-     * @return List of Enemy objects
+     * @return Read-only list of Enemy objects
      */
     public List<Enemy> getEnemies() {
-        List<Enemy> enemies = new ArrayList<>();
-        for (List<GameObject> objects : gameObjects.values()) {
-            for (GameObject object : objects) {
-                if (object instanceof Enemy) {
-                    enemies.add((Enemy) object);
-                }
-            }
-        }
-        return enemies;
+        return entities.getEnemies();
     }
 
-    public List<ExitPoint> getExitPoints() {
-        return exitPoints;
+    public EntityRegistry getEntities() {
+        return entities;
     }
 
-    public List<LaserTrap> getLaserTraps() {
-        return laserTraps;
+    public Engine getEngine() {
+        return engine;
     }
 
-    public void setPlayer(Player player) {
-        for (Enemy enemy : getEnemies()) {
-            enemy.setPlayer(player);
-        }
+    public AnimationClock getAnimationClock() {
+        return animationClock;
+    }
+
+    public List<ExitPoint> getExitPoints() {
+        return entities.getExitPoints();
     }
 
+    public List<LaserTrap> getLaserTraps() {
+        return entities.getLaserTraps();
+    }
+
+    /**
+     * Sets the pathfinder whose regions are invalidated when a wall changes
+     *
+     * @param pathfinder Pathfinder of the level
+     */
     public void setPathfinder(Algorithm pathfinder) {
-        for (Enemy enemy : getEnemies()) {
-            enemy.setPathfinder(pathfinder);
-        }
+        this.pathfinder = pathfinder;
     }
 }
@@ -5,6 +5,8 @@
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import de.tum.cit.fop.maze.assets.GameAssets;
+import de.tum.cit.fop.maze.render.LightingTier;
 import de.tum.cit.fop.maze.screens.*;
 import games.spooky.gdx.nativefilechooser.NativeFileChooser;
 
@@ -28,6 +30,11 @@ public class MazeRunnerGame extends Game {
     // UI Skin
     private Skin skin;
 
+    // Shared sprites and sounds, loaded while a level holds them
+    private GameAssets assets;
+    // Kept across levels, so the tier chosen in one level stays for the next
+    private LightingTier lightingTier = LightingTier.OFF;
+
     // Background Music
     private Music backgroundMusic;
     private Music mazeMusic;
@@ -51,6 +58,7 @@ public MazeRunnerGame(NativeFileChooser fileChooser) {
     public void create() {
         spriteBatch = new SpriteBatch();
         skin = new Skin(Gdx.files.internal("craft/craftacular-ui.json"));
+        assets = new GameAssets();
 
         // Initialize the background music
         backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("menuMusic.mp3"));
@@ -102,7 +110,19 @@ public void goToGame(String mapPath) {
         // Stop background music and play maze music when entering the game screen
         stopAllMusic();
         playMazeMusic();
-        this.setScreen(new GameScreen(this, mapPath));
+        this.setScreen(new LoadingScreen(this, mapPath));
+    }
+
+    /**
+     * Switches from the loading screen to a fully loaded game screen.
+     *
+     * @param gameScreen the loaded game screen
+     */
+    public void startGame(GameScreen gameScreen) {
+        if (screen != null) {
+            screen.dispose();
+        }
+        this.setScreen(gameScreen);
     }
 
     public void goToGameOver(String mapPath) {
@@ -240,12 +260,26 @@ public void dispose() {
         if (getScreen() != null) {
             getScreen().dispose();
         }
+        // After the screens, which release their assets when disposed
+        if (assets != null) assets.dispose();
     }
 
     public Skin getSkin() {
         return skin;
     }
 
+    public GameAssets getAssets() {
+        return assets;
+    }
+
+    public LightingTier getLightingTier() {
+        return lightingTier;
+    }
+
+    public void setLightingTier(LightingTier lightingTier) {
+        this.lightingTier = lightingTier;
+    }
+
     public SpriteBatch getSpriteBatch() {
         return spriteBatch;
     }
@@ -0,0 +1,254 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import de.tum.cit.fop.maze.entities.Enemy;
+import de.tum.cit.fop.maze.map.TileGrid;
+import de.tum.cit.fop.maze.objects.Fish;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Overview of the whole maze with one pixel per tile, showing walls, exits, fish, the player and the enemies.
+ * The pixels are kept in a {@link Pixmap} that is filled on the loading thread by {@link #drawTiles} and
+ * uploaded once when the level loads. Afterwards only the
+ * rectangle of pixels that changed since the last frame is uploaded with {@code glTexSubImage2D}, so keeping
+ * the minimap up to date costs the same on a 4096x4096 maze as on a small one.
+ */
+public class Minimap implements Disposable {
+    private static final short EMPTY_COLOR = (short) Color.rgb565(0f, 0f, 0f);
+    private static final short WALL_COLOR = (short) Color.rgb565(0.25f, 0.25f, 0.3f);
+    private static final short PATH_COLOR = (short) Color.rgb565(0.75f, 0.7f, 0.6f);
+    private static final short ENTRY_COLOR = (short) Color.rgb565(0.2f, 0.8f, 0.2f);
+    private static final short EXIT_COLOR = (short) Color.rgb565(1f, 0.85f, 0f);
+    private static final short FISH_COLOR = (short) Color.rgb565(0.2f, 0.6f, 1f);
+    private static final short PLAYER_COLOR = (short) Color.rgb565(1f, 1f, 1f);
+    private static final short ENEMY_COLOR = (short) Color.rgb565(0.9f, 0.1f, 0.1f);
+
+    private final TileGrid grid;
+    private final int width, height;
+    private final Pixmap pixmap;
+    // Pixels of the pixmap, row 0 being the top row of the maze
+    private final ShortBuffer pixels;
+    private final Texture texture;
+
+    // Number of markers on each tile, so a tile left by one enemy keeps showing another one.
+    // A short, as a byte would overflow once more than 127 enemies crowd onto one tile
+    private final short[] markerCounts;
+    private int playerTile = -1;
+    private int[] enemyTiles = new int[0];
+
+    // Pixels changed since the last upload (inclusive), in pixmap coordinates
+    private int dirtyMinX, dirtyMinY, dirtyMaxX = -1, dirtyMaxY = -1;
+    private ByteBuffer uploadBuffer = BufferUtils.newByteBuffer(0);
+
+    /**
+     * Constructs a new Minimap for a fully built maze, only uploading the pixels drawn by {@link #drawTiles}.
+     *
+     * @param grid   Grid holding the tiles and items of the maze
+     * @param pixmap Pixels of the tiles, the minimap takes ownership of them
+     */
+    public Minimap(TileGrid grid, Pixmap pixmap) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.markerCounts = new short[width * height];
+        this.pixmap = pixmap;
+        this.pixels = asShortBuffer(pixmap);
+        this.texture = new Texture(pixmap);
+    }
+
+    /**
+     * Draws the tiles of a maze that was loaded but not built yet, with one pixel per tile.
+     * Doesn't touch OpenGL, so it runs on the loading thread instead of stalling a frame on large mazes.
+     * Entries other than the first one and entries and exits on a corner are drawn empty,
+     * as building the maze drops them.
+     *
+     * @param grid       Grid holding the tiles of the maze as loaded from the map
+     * @param entryIndex Index of the entry the maze is built with
+     * @return the pixels of the minimap
+     */
+    public static Pixmap drawTiles(TileGrid grid, int entryIndex) {
+        int width = grid.getWidth(), height = grid.getHeight();
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGB565);
+        ShortBuffer pixels = asShortBuffer(pixmap);
+        byte[] tiles = grid.getTiles();
+        for (int y = 0; y < height; y++) {
+            int index = grid.index(0, y);
+            int rowStart = (height - 1 - y) * width;
+            boolean edgeRow = y == 0 || y == height - 1;
+            for (int x = 0; x < width; x++, index++) {
+                boolean corner = edgeRow && (x == 0 || x == width - 1);
+                short color = switch (tiles[index]) {
+                    case TileGrid.WALL -> WALL_COLOR;
+                    case TileGrid.ENTRY -> index == entryIndex ? ENTRY_COLOR : EMPTY_COLOR;
+                    case TileGrid.EXIT -> corner ? EMPTY_COLOR : EXIT_COLOR;
+                    case TileGrid.FISH -> FISH_COLOR;
+                    case TileGrid.LASER_TRAP, TileGrid.ENEMY, TileGrid.SLOW_TILE, TileGrid.HEART,
+                         TileGrid.ABILITY, TileGrid.PATH -> PATH_COLOR;
+                    default -> EMPTY_COLOR;
+                };
+                pixels.put(rowStart + x, color);
+            }
+        }
+        return pixmap;
+    }
+
+    private static ShortBuffer asShortBuffer(Pixmap pixmap) {
+        return pixmap.getPixels().duplicate().order(ByteOrder.nativeOrder()).asShortBuffer();
+    }
+
+    private int pixelIndex(int x, int y) {
+        return x + (height - 1 - y) * width;
+    }
+
+    private short getTileColor(int index) {
+        switch (grid.getTiles()[index]) {
+            case TileGrid.EMPTY:
+                return EMPTY_COLOR;
+            case TileGrid.WALL:
+                return WALL_COLOR;
+            case TileGrid.ENTRY:
+                return ENTRY_COLOR;
+            case TileGrid.EXIT:
+                return EXIT_COLOR;
+            default:
+                return grid.getOverlay(index) instanceof Fish ? FISH_COLOR : PATH_COLOR;
+        }
+    }
+
+    /**
+     * Draws a tile again, e.g. after the fish on it was collected.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     */
+    public void refreshTile(int x, int y) {
+        if (grid.inBounds(x, y)) drawTile(grid.index(x, y));
+    }
+
+    private void drawTile(int index) {
+        short color;
+        if (index == playerTile) color = PLAYER_COLOR;
+        else if (markerCounts[index] > 0) color = ENEMY_COLOR;
+        else color = getTileColor(index);
+
+        int x = index % width, y = index / width;
+        pixels.put(pixelIndex(x, y), color);
+        int pixelY = height - 1 - y;
+        if (dirtyMaxX < dirtyMinX) {
+            dirtyMinX = dirtyMaxX = x;
+            dirtyMinY = dirtyMaxY = pixelY;
+        } else {
+            dirtyMinX = Math.min(dirtyMinX, x);
+            dirtyMaxX = Math.max(dirtyMaxX, x);
+            dirtyMinY = Math.min(dirtyMinY, pixelY);
+            dirtyMaxY = Math.max(dirtyMaxY, pixelY);
+        }
+    }
+
+    /**
+     * Moves the markers of the player and the enemies that changed their tile and uploads the changed pixels.
+     * Must not be called between begin and end of a SpriteBatch, as it binds the minimap texture.
+     *
+     * @param playerPosition Position of the player in tile units
+     * @param enemies        Enemies of the maze, always in the same order
+     */
+    public void update(Vector2 playerPosition, List<Enemy> enemies) {
+        int tile = toTile(playerPosition);
+        if (tile != playerTile) {
+            int previous = playerTile;
+            playerTile = tile;
+            if (previous >= 0) drawTile(previous);
+            if (tile >= 0) drawTile(tile);
+        }
+
+        if (enemyTiles.length != enemies.size()) {
+            // Only happens once, the enemies of a maze never change
+            for (int previous : enemyTiles) moveMarker(previous, -1);
+            enemyTiles = new int[enemies.size()];
+            Arrays.fill(enemyTiles, -1);
+        }
+        for (int i = 0; i < enemyTiles.length; i++) {
+            int enemyTile = toTile(enemies.get(i).getBody().getPosition());
+            if (enemyTile != enemyTiles[i]) {
+                moveMarker(enemyTiles[i], enemyTile);
+                enemyTiles[i] = enemyTile;
+            }
+        }
+
+        upload();
+    }
+
+    private void moveMarker(int from, int to) {
+        if (from >= 0) {
+            markerCounts[from]--;
+            drawTile(from);
+        }
+        if (to >= 0) {
+            markerCounts[to]++;
+            drawTile(to);
+        }
+    }
+
+    private int toTile(Vector2 position) {
+        int x = (int) position.x, y = (int) position.y;
+        return grid.inBounds(x, y) ? grid.index(x, y) : -1;
+    }
+
+    /**
+     * Uploads the rectangle of changed pixels. The rows of the rectangle are packed into a reused buffer,
+     * as OpenGL ES 2 can't skip the rest of the pixmap's rows while reading.
+     */
+    private void upload() {
+        if (dirtyMaxX < dirtyMinX) return;
+        int rectWidth = dirtyMaxX - dirtyMinX + 1, rectHeight = dirtyMaxY - dirtyMinY + 1;
+        int bytes = rectWidth * rectHeight * 2;
+        if (uploadBuffer.capacity() < bytes) {
+            uploadBuffer = BufferUtils.newByteBuffer(bytes);
+        }
+        uploadBuffer.clear();
+        for (int y = dirtyMinY; y <= dirtyMaxY; y++) {
+            int rowStart = y * width;
+            for (int x = dirtyMinX; x <= dirtyMaxX; x++) {
+                uploadBuffer.putShort(pixels.get(rowStart + x));
+            }
+        }
+        uploadBuffer.flip();
+
+        texture.bind();
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, dirtyMinX, dirtyMinY, rectWidth, rectHeight,
+                pixmap.getGLFormat(), pixmap.getGLType(), uploadBuffer);
+        dirtyMaxX = dirtyMaxY = -1;
+        dirtyMinX = dirtyMinY = 0;
+    }
+
+    public Texture getTexture() {
+        return texture;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public void dispose() {
+        texture.dispose();
+        pixmap.dispose();
+    }
+}
@@ -0,0 +1,56 @@
+package de.tum.cit.fop.maze;
+
+/**
+ * Splits the time between rendered frames into fixed simulation ticks. The frame time is added
+ * to an accumulator and as many ticks as fit into it are run, so the game plays at the same speed
+ * whatever the frame rate. The remainder carries over to the next frame and gives the fraction
+ * by which rendering interpolates between the last two simulated states.
+ */
+public class SimulationClock {
+    /**
+     * The length of one simulation tick in seconds.
+     */
+    public static final float TIME_STEP = 1 / 60f;
+    // After a long hitch the simulation slows down instead of trying to catch up,
+    // as ticks that take longer than the time they simulate would pile up forever
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
+    private float accumulator;
+    private int ticksThisFrame;
+
+    /**
+     * Adds the time of a rendered frame to the accumulator.
+     *
+     * @param delta the time in seconds since the last frame
+     */
+    public void advance(float delta) {
+        accumulator += delta;
+        ticksThisFrame = 0;
+    }
+
+    /**
+     * Consumes one tick from the accumulator, meant as the condition of the simulation loop.
+     * Drops the remaining time once the tick limit of the frame is reached.
+     *
+     * @return true if another tick has to be simulated
+     */
+    public boolean tick() {
+        if (accumulator < TIME_STEP) return false;
+        if (ticksThisFrame == MAX_TICKS_PER_FRAME) {
+            accumulator = 0;
+            return false;
+        }
+        accumulator -= TIME_STEP;
+        ticksThisFrame++;
+        return true;
+    }
+
+    /**
+     * Gets how far the simulation is between the last tick and the next one.
+     *
+     * @return the fraction of a tick, from 0 to 1
+     */
+    public float getAlpha() {
+        return accumulator / TIME_STEP;
+    }
+}
@@ -0,0 +1,230 @@
+package de.tum.cit.fop.maze.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Central registry of the game's assets, built on libGDX's {@link AssetManager}.
+ * Files are reference counted: every {@link #load} must be matched by a {@link #release},
+ * and a file is disposed once nothing holds it anymore. Loading never blocks, queued files are
+ * loaded a slice at a time by {@link #update}. The regions, tile grids and animations
+ * cut out of the sprite atlas are created once and shared by all objects, so the cost of a level
+ * doesn't grow with the number of objects in it.
+ */
+public class GameAssets implements Disposable {
+    // All gameplay sprites, see assets-raw/sprites
+    public static final String ATLAS = "game.atlas";
+    public static final String FISH_SOUND = "assets/chewing.mp3";
+    public static final String SLOW_TILE_SOUND = "assets/slowmo.mp3";
+    public static final String ENEMY_SOUND = "assets/meow.mp3";
+    public static final String LASER_SOUND = "assets/laser.mp3";
+
+    private static final String[] LEVEL_SOUNDS = {FISH_SOUND, SLOW_TILE_SOUND, ENEMY_SOUND, LASER_SOUND};
+
+    private final AssetManager manager = new AssetManager();
+    // Shared instances derived from the atlas, dropped together with it
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+    private final Map<String, TextureRegion[][]> tiles = new HashMap<>();
+    private final Map<String, Animation<TextureRegion>> animations = new HashMap<>();
+
+    /**
+     * Queues a file for loading, or only increases its reference count if it is already loaded.
+     * The file can be used once {@link #update} reports that everything queued is loaded.
+     *
+     * @param fileName the path of the file
+     * @param type     the type of the asset
+     */
+    public void load(String fileName, Class<?> type) {
+        manager.load(fileName, type);
+    }
+
+    /**
+     * Continues loading the queued files, for at most the given time.
+     * Always makes some progress, even if the time is already used up.
+     *
+     * @param millis the time after which loading pauses until the next call, in milliseconds
+     * @return true once every queued file is loaded
+     */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /**
+     * Gets how far loading the queued files has progressed.
+     *
+     * @return the progress between 0 and 1
+     */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * Decreases the reference count of a file and disposes it once nothing holds it anymore.
+     *
+     * @param fileName the path of the file
+     */
+    public void release(String fileName) {
+        // Also drops files that are still queued, so leaving a level while loading doesn't leak them
+        if (!manager.contains(fileName)) return;
+        manager.unload(fileName);
+        if (ATLAS.equals(fileName) && !manager.isLoaded(ATLAS)) {
+            // The shared regions point into the disposed texture
+            regions.clear();
+            tiles.clear();
+            animations.clear();
+        }
+    }
+
+    /**
+     * Queues everything a level needs: the sprite atlas and the sound effects.
+     * Either all of them are queued or, if queueing one fails, none of them.
+     */
+    public void queueLevelAssets() {
+        load(ATLAS, TextureAtlas.class);
+        int queuedSounds = 0;
+        try {
+            for (String sound : LEVEL_SOUNDS) {
+                load(sound, Sound.class);
+                queuedSounds++;
+            }
+        } catch (RuntimeException e) {
+            release(ATLAS);
+            for (int i = 0; i < queuedSounds; i++) {
+                release(LEVEL_SOUNDS[i]);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the assets queued by {@link #queueLevelAssets()} when a level is unloaded.
+     */
+    public void releaseLevelAssets() {
+        release(ATLAS);
+        for (String sound : LEVEL_SOUNDS) {
+            release(sound);
+        }
+    }
+
+    /**
+     * Gets the sprite atlas, which must have been loaded before.
+     *
+     * @return the sprite atlas
+     */
+    public TextureAtlas getAtlas() {
+        if (!manager.isLoaded(ATLAS)) {
+            throw new GdxRuntimeException("The sprite atlas is used before it is loaded");
+        }
+        return manager.get(ATLAS, TextureAtlas.class);
+    }
+
+    /**
+     * Gets a loaded sound effect.
+     *
+     * @param fileName the path of the sound file
+     * @return the shared sound
+     */
+    public Sound getSound(String fileName) {
+        return manager.get(fileName, Sound.class);
+    }
+
+    /**
+     * Gets a region of the sprite atlas by the name of its source image.
+     *
+     * @param name the name of the region
+     * @return the shared region
+     */
+    public TextureRegion getRegion(String name) {
+        TextureRegion region = regions.get(name);
+        if (region == null) {
+            region = getAtlas().findRegion(name);
+            if (region == null) {
+                throw new GdxRuntimeException("Missing sprite " + name + " in " + ATLAS);
+            }
+            regions.put(name, region);
+        }
+        return region;
+    }
+
+    /**
+     * Gets a rectangle inside a region of the sprite atlas.
+     *
+     * @param name   the name of the region
+     * @param x      the left edge of the rectangle inside the region
+     * @param y      the top edge of the rectangle inside the region
+     * @param width  the width of the rectangle
+     * @param height the height of the rectangle
+     * @return the shared sub-region
+     */
+    public TextureRegion getRegion(String name, int x, int y, int width, int height) {
+        String key = name + "@" + x + "," + y + "," + width + "x" + height;
+        TextureRegion region = regions.get(key);
+        if (region == null) {
+            region = new TextureRegion(getRegion(name), x, y, width, height);
+            regions.put(key, region);
+        }
+        return region;
+    }
+
+    /**
+     * Gets a region of the sprite atlas split into a grid of equally sized tiles.
+     *
+     * @param name       the name of the region
+     * @param tileWidth  the width of a tile
+     * @param tileHeight the height of a tile
+     * @return the shared tiles, indexed by [row][column]
+     */
+    public TextureRegion[][] getTiles(String name, int tileWidth, int tileHeight) {
+        String key = name + "@" + tileWidth + "x" + tileHeight;
+        TextureRegion[][] grid = tiles.get(key);
+        if (grid == null) {
+            grid = getRegion(name).split(tileWidth, tileHeight);
+            tiles.put(key, grid);
+        }
+        return grid;
+    }
+
+    /**
+     * Gets a shared animation, creating it on first use.
+     * Animations hold no playback state, so every object can use the same instance with its own state time.
+     *
+     * @param name    the unique name of the animation
+     * @param factory creates the animation the first time it is requested
+     * @return the shared animation
+     */
+    public Animation<TextureRegion> getAnimation(String name, Supplier<Animation<TextureRegion>> factory) {
+        Animation<TextureRegion> animation = animations.get(name);
+        if (animation == null) {
+            animation = factory.get();
+            animations.put(name, animation);
+        }
+        return animation;
+    }
+
+    /**
+     * Gets the number of holders of a file, e.g. to check that a level released everything.
+     *
+     * @param fileName the path of the file
+     * @return the reference count, 0 if the file is not loaded
+     */
+    public int getReferenceCount(String fileName) {
+        return manager.isLoaded(fileName) ? manager.getReferenceCount(fileName) : 0;
+    }
+
+    @Override
+    public void dispose() {
+        regions.clear();
+        tiles.clear();
+        animations.clear();
+        manager.dispose();
+    }
+}
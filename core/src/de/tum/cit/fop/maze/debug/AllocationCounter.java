@@ -0,0 +1,92 @@
+package de.tum.cit.fop.maze.debug;
+
+import com.badlogic.gdx.Gdx;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Debug report of the heap memory allocated by the render thread per frame, to check that a running level
+ * allocates nothing and so never makes the garbage collector pause the game. While enabled, the average
+ * and maximum per frame are logged once a second. Relies on the allocation counters of HotSpot JVMs
+ * and stays disabled where they are missing.
+ */
+public class AllocationCounter {
+    private static final String TAG = "Allocations";
+    private static final float REPORT_INTERVAL = 1f;
+
+    private final com.sun.management.ThreadMXBean threads;
+    private boolean enabled;
+    private long bytesAtFrameStart;
+
+    // Totals since the last report
+    private int frames;
+    private long bytes, maxBytes;
+    private float timer;
+
+    /**
+     * Constructs a new AllocationCounter.
+     */
+    public AllocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threads = (com.sun.management.ThreadMXBean) bean;
+        } else {
+            threads = null;
+        }
+    }
+
+    /**
+     * Turns counting on or off.
+     */
+    public void toggle() {
+        if (threads == null) {
+            Gdx.app.log(TAG, "Allocation counting is not supported by this JVM");
+        } else if (enabled) {
+            enabled = false;
+            Gdx.app.log(TAG, "Allocation counting disabled");
+        } else {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            enabled = true;
+            resetTotals();
+            Gdx.app.log(TAG, "Allocation counting enabled");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts counting a new frame. Must be called at the start of the frame.
+     */
+    public void beginFrame() {
+        if (!enabled) return;
+        bytesAtFrameStart = threads.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Adds the bytes allocated since {@link #beginFrame()} to the report and logs it once the report interval has passed.
+     *
+     * @param delta the time in seconds since the last frame
+     */
+    public void endFrame(float delta) {
+        if (!enabled) return;
+        long frameBytes = threads.getCurrentThreadAllocatedBytes() - bytesAtFrameStart;
+        frames++;
+        bytes += frameBytes;
+        maxBytes = Math.max(maxBytes, frameBytes);
+
+        timer += delta;
+        if (timer >= REPORT_INTERVAL) {
+            Gdx.app.log(TAG, String.format("per frame: %.0f bytes allocated (max %d)", (double) bytes / frames, maxBytes));
+            resetTotals();
+        }
+    }
+
+    private void resetTotals() {
+        frames = 0;
+        bytes = maxBytes = 0;
+        timer = 0;
+    }
+}
@@ -0,0 +1,110 @@
+package de.tum.cit.fop.maze.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+/**
+ * Debug report of the OpenGL work done per frame: draw calls, texture binds, shader switches
+ * and SpriteBatch flushes. While enabled, the averages per frame are logged once a second.
+ * Profiling intercepts every GL call, so it is disabled by default.
+ */
+public class DrawCallProfiler {
+    private static final String TAG = "DrawCalls";
+    private static final float REPORT_INTERVAL = 1f;
+
+    private final GLProfiler profiler;
+    private final SpriteBatch batch;
+    private int batchCallsAtFrameStart;
+
+    // Totals since the last report
+    private int frames;
+    private int drawCalls, textureBindings, shaderSwitches, batchFlushes;
+    private int maxDrawCalls;
+    private float timer;
+
+    /**
+     * Constructs a new DrawCallProfiler.
+     *
+     * @param batch the SpriteBatch whose flushes are counted
+     */
+    public DrawCallProfiler(SpriteBatch batch) {
+        this.batch = batch;
+        this.profiler = new GLProfiler(Gdx.graphics);
+    }
+
+    /**
+     * Turns profiling on or off.
+     */
+    public void toggle() {
+        if (profiler.isEnabled()) {
+            profiler.disable();
+            Gdx.app.log(TAG, "Draw call profiling disabled");
+        } else {
+            profiler.enable();
+            resetTotals();
+            Gdx.app.log(TAG, "Draw call profiling enabled");
+        }
+    }
+
+    public boolean isEnabled() {
+        return profiler.isEnabled();
+    }
+
+    /**
+     * Gets the draw calls of the current frame so far, or 0 while disabled.
+     *
+     * @return the number of draw calls since {@link #beginFrame()}
+     */
+    public int getFrameDrawCalls() {
+        return profiler.isEnabled() ? profiler.getDrawCalls() : 0;
+    }
+
+    /**
+     * Gets the texture binds of the current frame so far, or 0 while disabled.
+     *
+     * @return the number of texture binds since {@link #beginFrame()}
+     */
+    public int getFrameTextureBindings() {
+        return profiler.isEnabled() ? profiler.getTextureBindings() : 0;
+    }
+
+    /**
+     * Starts counting a new frame. Must be called before anything is rendered.
+     */
+    public void beginFrame() {
+        if (!profiler.isEnabled()) return;
+        profiler.reset();
+        batchCallsAtFrameStart = batch.totalRenderCalls;
+    }
+
+    /**
+     * Adds the counts of the frame to the report and logs it once the report interval has passed.
+     *
+     * @param delta the time in seconds since the last frame
+     */
+    public void endFrame(float delta) {
+        if (!profiler.isEnabled()) return;
+        frames++;
+        drawCalls += profiler.getDrawCalls();
+        textureBindings += profiler.getTextureBindings();
+        shaderSwitches += profiler.getShaderSwitches();
+        batchFlushes += batch.totalRenderCalls - batchCallsAtFrameStart;
+        maxDrawCalls = Math.max(maxDrawCalls, profiler.getDrawCalls());
+
+        timer += delta;
+        if (timer >= REPORT_INTERVAL) {
+            Gdx.app.log(TAG, String.format("per frame: %.1f draw calls (max %d), %.1f texture binds, %.1f shader switches, %.1f batch flushes",
+                    (float) drawCalls / frames, maxDrawCalls, (float) textureBindings / frames,
+                    (float) shaderSwitches / frames, (float) batchFlushes / frames));
+            resetTotals();
+        }
+    }
+
+    private void resetTotals() {
+        frames = 0;
+        drawCalls = textureBindings = shaderSwitches = batchFlushes = 0;
+        maxDrawCalls = 0;
+        timer = 0;
+    }
+}
@@ -0,0 +1,218 @@
+package de.tum.cit.fop.maze.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+
+/**
+ * Debug overlay showing where the time of a frame goes. Every phase of the game loop is timed
+ * and the rolling p50, p95 and p99 over the last frames are shown, together with the draw calls,
+ * texture binds, Box2D body and contact counts and the heap in use. The same report is logged
+ * once a second. The text is only rebuilt with each report, so drawing the overlay allocates nothing.
+ */
+public class PerformanceOverlay implements Disposable {
+    private static final String TAG = "Performance";
+    private static final float REPORT_INTERVAL = 1f;
+    // About four seconds of frames at 60 FPS
+    private static final int SAMPLES = 240;
+    private static final float MARGIN = 20;
+    // Keeps the overlay below the lives and fish count of the HUD
+    private static final float HUD_HEIGHT = 60;
+
+    /**
+     * The timed phases of a frame, in the order they run. The simulation phases run once per tick
+     * and are summed over the frame.
+     */
+    public enum Phase {
+        INPUT("clear + input"),
+        PLAYER("player"),
+        LASERS("lasers"),
+        ENEMIES("enemies + paths"),
+        PHYSICS("world step"),
+        COLLECTIBLES("collectibles"),
+        CAMERA("camera"),
+        STREAMING("chunk streaming"),
+        MINIMAP("minimap"),
+        MAP("map render"),
+        LIGHTING("lighting"),
+        HUD("hud");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final DrawCallProfiler drawCallProfiler;
+    private boolean enabled;
+    // Whether enabling the overlay turned on the draw call profiler, so disabling it turns it off again
+    private boolean enabledDrawCalls;
+
+    private final SampleRing[] phaseSamples = new SampleRing[PHASES.length];
+    private final SampleRing frameSamples = new SampleRing(SAMPLES);
+    private final long[] scratch = new long[SAMPLES];
+    // Time of each phase in the current frame, as the simulation phases can run several times per frame
+    private final long[] phaseTimes = new long[PHASES.length];
+    private long frameStart, phaseStart;
+    private int drawCalls, textureBindings, bodies, contacts;
+    private long heapBytes;
+    private float timer;
+
+    private final BitmapFont font = new BitmapFont();
+    private final OrthographicCamera screenCamera = new OrthographicCamera();
+    private final GlyphLayout layout = new GlyphLayout();
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Constructs a new PerformanceOverlay.
+     *
+     * @param drawCallProfiler the profiler the draw calls and texture binds are read from
+     */
+    public PerformanceOverlay(DrawCallProfiler drawCallProfiler) {
+        this.drawCallProfiler = drawCallProfiler;
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseSamples[i] = new SampleRing(SAMPLES);
+        }
+        font.setColor(Color.WHITE);
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    /**
+     * Turns the overlay on or off.
+     */
+    public void toggle() {
+        enabled = !enabled;
+        if (enabled) {
+            enabledDrawCalls = !drawCallProfiler.isEnabled();
+            if (enabledDrawCalls) drawCallProfiler.toggle();
+            timer = 0;
+            text.setLength(0);
+            layout.reset();
+            Gdx.app.log(TAG, "Performance overlay enabled");
+        } else {
+            if (enabledDrawCalls && drawCallProfiler.isEnabled()) drawCallProfiler.toggle();
+            Gdx.app.log(TAG, "Performance overlay disabled");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Updates the overlay's camera to a new screen size.
+     *
+     * @param width  the width of the screen in pixels
+     * @param height the height of the screen in pixels
+     */
+    public void resize(int width, int height) {
+        screenCamera.setToOrtho(false, width, height);
+    }
+
+    /**
+     * Starts timing a new frame. Must be called before the first phase.
+     */
+    public void beginFrame() {
+        if (!enabled) return;
+        frameStart = phaseStart = System.nanoTime();
+        Arrays.fill(phaseTimes, 0);
+    }
+
+    /**
+     * Ends a phase, adding the time since the previous phase ended to it.
+     *
+     * @param phase the phase that just finished
+     */
+    public void endPhase(Phase phase) {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        phaseTimes[phase.ordinal()] += now - phaseStart;
+        phaseStart = now;
+    }
+
+    /**
+     * Ends the frame, reads the counters and rebuilds the report once the report interval has passed.
+     *
+     * @param delta the time in seconds since the last frame
+     * @param world the Box2D world whose bodies and contacts are counted
+     */
+    public void endFrame(float delta, World world) {
+        if (!enabled) return;
+        frameSamples.add(System.nanoTime() - frameStart);
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseSamples[i].add(phaseTimes[i]);
+            phaseTimes[i] = 0;
+        }
+        drawCalls = drawCallProfiler.getFrameDrawCalls();
+        textureBindings = drawCallProfiler.getFrameTextureBindings();
+        bodies = world.getBodyCount();
+        contacts = world.getContactCount();
+        heapBytes = Gdx.app.getJavaHeap();
+
+        timer += delta;
+        if (timer >= REPORT_INTERVAL || text.length() == 0) {
+            timer = 0;
+            buildReport();
+            layout.setText(font, text);
+            Gdx.app.log(TAG, text.toString());
+        }
+    }
+
+    private void buildReport() {
+        text.setLength(0);
+        text.append("ms         p50    p95    p99");
+        appendRow("frame", frameSamples);
+        for (int i = 0; i < PHASES.length; i++) {
+            appendRow(PHASES[i].label, phaseSamples[i]);
+        }
+        text.append("\ndraw calls ").append(drawCalls).append(", texture binds ").append(textureBindings);
+        text.append("\nbodies ").append(bodies).append(", contacts ").append(contacts);
+        text.append("\nheap ").append(heapBytes / (1024 * 1024)).append(" MB");
+    }
+
+    private void appendRow(String label, SampleRing samples) {
+        int count = samples.sortInto(scratch);
+        text.append('\n').append(label).append(": ");
+        appendMillis(SampleRing.percentile(scratch, count, 50));
+        text.append("  ");
+        appendMillis(SampleRing.percentile(scratch, count, 95));
+        text.append("  ");
+        appendMillis(SampleRing.percentile(scratch, count, 99));
+    }
+
+    // Formats nanoseconds as milliseconds with two decimals, without going through String.format
+    private void appendMillis(long nanos) {
+        long hundredths = nanos / 10_000;
+        text.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) text.append('0');
+        text.append(fraction);
+    }
+
+    /**
+     * Draws the overlay in the top-left corner. Must be called between begin and end of the batch;
+     * the projection matrix of the batch is changed to screen coordinates.
+     *
+     * @param batch the SpriteBatch used for drawing
+     */
+    public void render(SpriteBatch batch) {
+        if (!enabled) return;
+        batch.setProjectionMatrix(screenCamera.combined);
+        font.draw(batch, layout, MARGIN, screenCamera.viewportHeight - MARGIN - HUD_HEIGHT);
+    }
+
+    @Override
+    public void dispose() {
+        font.dispose();
+    }
+}
@@ -0,0 +1,59 @@
+package de.tum.cit.fop.maze.debug;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring of the most recent timing samples in nanoseconds, with percentiles over them.
+ * Adding a sample never allocates; the percentiles sort a copy in a scratch array shared between rings.
+ */
+class SampleRing {
+    private final long[] samples;
+    private int size;
+    private int next;
+
+    /**
+     * Constructs a new SampleRing.
+     *
+     * @param capacity the number of samples kept, older samples are overwritten
+     */
+    SampleRing(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    /**
+     * Adds a sample, overwriting the oldest one if the ring is full.
+     *
+     * @param sample the sample in nanoseconds
+     */
+    void add(long sample) {
+        samples[next] = sample;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) size++;
+    }
+
+    /**
+     * Sorts the samples into a scratch array, so several percentiles can be read with {@link #percentile}.
+     *
+     * @param scratch an array at least as large as the capacity
+     * @return the number of sorted samples at the start of the scratch array
+     */
+    int sortInto(long[] scratch) {
+        System.arraycopy(samples, 0, scratch, 0, size);
+        Arrays.sort(scratch, 0, size);
+        return size;
+    }
+
+    /**
+     * Gets a percentile of samples sorted by {@link #sortInto} (nearest rank).
+     *
+     * @param sorted  the sorted samples
+     * @param count   the number of sorted samples
+     * @param percent the percentile, from 0 to 100
+     * @return the sample at that percentile, or 0 if there are no samples
+     */
+    static long percentile(long[] sorted, int count, int percent) {
+        if (count == 0) return 0;
+        int rank = (int) Math.ceil(percent / 100.0 * count);
+        return sorted[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+}
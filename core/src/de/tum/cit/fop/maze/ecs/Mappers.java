@@ -0,0 +1,21 @@
+package de.tum.cit.fop.maze.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import de.tum.cit.fop.maze.ecs.components.*;
+
+/**
+ * Component mappers for fast component lookups by index instead of by class.
+ */
+public final class Mappers {
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<BodyComponent> body = ComponentMapper.getFor(BodyComponent.class);
+    public static final ComponentMapper<SpriteComponent> sprite = ComponentMapper.getFor(SpriteComponent.class);
+    public static final ComponentMapper<AIComponent> ai = ComponentMapper.getFor(AIComponent.class);
+    public static final ComponentMapper<TrapTimerComponent> trapTimer = ComponentMapper.getFor(TrapTimerComponent.class);
+    public static final ComponentMapper<PickupComponent> pickup = ComponentMapper.getFor(PickupComponent.class);
+    public static final ComponentMapper<TileSpriteComponent> tileSprite = ComponentMapper.getFor(TileSpriteComponent.class);
+    public static final ComponentMapper<TrapAnimationComponent> trapAnimation = ComponentMapper.getFor(TrapAnimationComponent.class);
+
+    private Mappers() {
+    }
+}
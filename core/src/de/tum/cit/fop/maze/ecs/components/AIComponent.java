@@ -0,0 +1,31 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * State of an enemy chasing the player along a path or wandering around randomly.
+ */
+public class AIComponent implements Component {
+    // Path to the player as tile indices, followed tile by tile. Refilled in place by every search
+    public final IntArray path = new IntArray();
+    public int currentTileIndex;
+
+    // Random movement while the player is out of reach
+    public final Vector2 randomDirection = new Vector2();
+    public float randomMoveTimer;
+    public final Vector2 lastPosition = new Vector2();
+    public float stuckTimer;
+
+    // Stunned by the ability of the player
+    public boolean dizzy;
+    public float dizzyTimer;
+
+    // Walk cycle, shared by all enemies
+    public Animation<TextureRegion> downAnimation, upAnimation, leftAnimation, rightAnimation;
+    public String direction = "down";
+    public float stateTime;
+}
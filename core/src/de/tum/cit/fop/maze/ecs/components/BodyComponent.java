@@ -0,0 +1,15 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * The Box2D body moving an entity.
+ */
+public class BodyComponent implements Component {
+    public final Body body;
+
+    public BodyComponent(Body body) {
+        this.body = body;
+    }
+}
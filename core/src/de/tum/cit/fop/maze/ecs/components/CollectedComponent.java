@@ -0,0 +1,14 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks a pickup the player touched, until the pickup system has handled it. The tag holds no state,
+ * so every pickup is marked with the same instance and touching one allocates nothing.
+ */
+public class CollectedComponent implements Component {
+    public static final CollectedComponent INSTANCE = new CollectedComponent();
+
+    private CollectedComponent() {
+    }
+}
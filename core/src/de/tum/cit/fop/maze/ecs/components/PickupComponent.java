@@ -0,0 +1,21 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import de.tum.cit.fop.maze.objects.GameObject;
+
+/**
+ * An item the player collects by walking over it.
+ */
+public class PickupComponent implements Component {
+    public enum Kind {
+        FISH, HEART, ABILITY
+    }
+
+    public final Kind kind;
+    public final GameObject object;
+
+    public PickupComponent(Kind kind, GameObject object) {
+        this.kind = kind;
+        this.object = object;
+    }
+}
@@ -0,0 +1,18 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import de.tum.cit.fop.maze.render.RenderLayer;
+
+/**
+ * The sprite of a moving entity, drawn centered on its transform.
+ */
+public class SpriteComponent implements Component {
+    public final Sprite sprite;
+    public final RenderLayer layer;
+
+    public SpriteComponent(Sprite sprite, RenderLayer layer) {
+        this.sprite = sprite;
+        this.layer = layer;
+    }
+}
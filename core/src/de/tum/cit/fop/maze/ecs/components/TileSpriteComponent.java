@@ -0,0 +1,47 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.fop.maze.render.RenderLayer;
+
+/**
+ * The look of an item or trap, drawn at a fixed place on its tile. Either a looping animation played by
+ * the clock of the level, or a region that is replaced when the object changes, e.g. by the laser cycle.
+ */
+public class TileSpriteComponent implements Component {
+    public final RenderLayer layer;
+    // The tile the object stands on, deciding whether it is visible
+    public final int tileX, tileY;
+    // Bottom left corner and size in pixels
+    public final float x, y, width, height;
+    // Drawn when there is no animation
+    public TextureRegion region;
+    // Offset to the time of the clock, so neighbouring objects don't animate in lockstep
+    public final Animation<TextureRegion> animation;
+    public final float phase;
+
+    public TileSpriteComponent(RenderLayer layer, int tileX, int tileY, float x, float y, float width, float height,
+                               TextureRegion region) {
+        this(layer, tileX, tileY, x, y, width, height, region, null, 0);
+    }
+
+    public TileSpriteComponent(RenderLayer layer, int tileX, int tileY, float x, float y, float width, float height,
+                               Animation<TextureRegion> animation, float phase) {
+        this(layer, tileX, tileY, x, y, width, height, null, animation, phase);
+    }
+
+    private TileSpriteComponent(RenderLayer layer, int tileX, int tileY, float x, float y, float width, float height,
+                                TextureRegion region, Animation<TextureRegion> animation, float phase) {
+        this.layer = layer;
+        this.tileX = tileX;
+        this.tileY = tileY;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.region = region;
+        this.animation = animation;
+        this.phase = phase;
+    }
+}
@@ -0,0 +1,25 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Position of an entity with a physics body, remembered across simulation ticks so it can be drawn
+ * between the last two simulated states.
+ */
+public class TransformComponent implements Component {
+    // Body position before the last simulation tick, in tile units
+    public final Vector2 previousPosition = new Vector2();
+    // Position the entity is drawn at in the current frame, in tile units
+    public final Vector2 renderPosition = new Vector2();
+
+    /**
+     * Constructs a new TransformComponent resting at a position.
+     *
+     * @param position the initial position in tile units
+     */
+    public TransformComponent(Vector2 position) {
+        previousPosition.set(position);
+        renderPosition.set(position);
+    }
+}
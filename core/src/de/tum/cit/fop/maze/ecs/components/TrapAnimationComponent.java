@@ -0,0 +1,19 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * The animations of a laser trap for the states of its cycle, shared by all laser traps.
+ */
+public class TrapAnimationComponent implements Component {
+    public final Animation<TextureRegion> activating, active, deactivating;
+
+    public TrapAnimationComponent(Animation<TextureRegion> activating, Animation<TextureRegion> active,
+                                  Animation<TextureRegion> deactivating) {
+        this.activating = activating;
+        this.active = active;
+        this.deactivating = deactivating;
+    }
+}
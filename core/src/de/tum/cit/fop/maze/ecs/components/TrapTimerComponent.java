@@ -0,0 +1,43 @@
+package de.tum.cit.fop.maze.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Cycle of a laser trap: it switches on, stays active, switches off and stays off, over and over.
+ * The trap is dangerous in every state but the last one.
+ */
+public class TrapTimerComponent implements Component {
+    public enum State {
+        ACTIVATING, ACTIVE, DEACTIVATING, INACTIVE
+    }
+
+    public State state = State.ACTIVATING;
+    // Seconds of simulated time spent in the current state
+    public float stateTime;
+    // Lengths of the states in seconds, the switching states last as long as their animations
+    public final float activatingDuration, deactivatingDuration;
+    public float activeDuration = 5f;
+    public float inactiveDuration = 3f;
+    public boolean paused;
+    // Whether the trap was dangerous before the last update, to detect it switching on
+    public boolean previousDangerous;
+
+    public TrapTimerComponent(float activatingDuration, float deactivatingDuration) {
+        this.activatingDuration = activatingDuration;
+        this.deactivatingDuration = deactivatingDuration;
+    }
+
+    public boolean isDangerous() {
+        return state != State.INACTIVE;
+    }
+
+    /**
+     * Switches to another state, restarting its timer.
+     *
+     * @param state the new state
+     */
+    public void enter(State state) {
+        this.state = state;
+        stateTime = 0;
+    }
+}
@@ -0,0 +1,228 @@
+package de.tum.cit.fop.maze.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import de.tum.cit.fop.maze.MazeMap;
+import de.tum.cit.fop.maze.ecs.Mappers;
+import de.tum.cit.fop.maze.ecs.components.AIComponent;
+import de.tum.cit.fop.maze.ecs.components.BodyComponent;
+import de.tum.cit.fop.maze.ecs.components.SpriteComponent;
+import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.pathfinding.Algorithm;
+
+import java.util.Random;
+
+/**
+ * Moves the enemies: an enemy close to the player follows a path to them, otherwise it wanders
+ * around in random directions. Enemies in unloaded chunks and dizzy enemies stand still.
+ */
+public class EnemyAISystem extends IteratingSystem {
+    private static final float MOVE_SPEED = 1.5f; // A bit slower than the player (2f)
+    private static final float PROXIMITY = 5f;
+    private static final float RANDOM_MOVE_INTERVAL = 2f;
+    private static final float STUCK_TIME_THRESHOLD = 0.5f;
+    private static final float STUCK_DISTANCE_EPSILON = 0.01f;
+
+    private final MazeMap mazeMap;
+    private final Player player;
+    private final Algorithm pathfinder;
+    private final int mazeWidth, mazeHeight;
+    private final Random random = new Random();
+    private final Vector2 pathDirection = new Vector2();
+    private final Vector2 pathTarget = new Vector2();
+
+    /**
+     * Constructs a new EnemyAISystem.
+     *
+     * @param mazeMap    the maze the enemies navigate
+     * @param player     the player the enemies chase
+     * @param pathfinder the pathfinding algorithm finding the way to the player
+     */
+    public EnemyAISystem(MazeMap mazeMap, Player player, Algorithm pathfinder) {
+        super(Family.all(AIComponent.class, BodyComponent.class, SpriteComponent.class).get());
+        this.mazeMap = mazeMap;
+        this.player = player;
+        this.pathfinder = pathfinder;
+        this.mazeWidth = mazeMap.getMazeWidth();
+        this.mazeHeight = mazeMap.getMazeHeight();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        AIComponent ai = Mappers.ai.get(entity);
+        Body body = Mappers.body.get(entity).body;
+
+        // Enemies in unloaded chunks are frozen, as the walls around them have no collision bodies
+        Vector2 bodyPosition = body.getPosition();
+        if (!mazeMap.isChunkActiveAt((int) bodyPosition.x, (int) bodyPosition.y)) {
+            body.setLinearVelocity(0, 0);
+            return;
+        }
+
+        // If the enemy is dizzy, decrement the timer
+        if (ai.dizzy) {
+            ai.dizzyTimer -= delta;
+            if (ai.dizzyTimer <= 0) {
+                ai.dizzy = false;
+                Mappers.sprite.get(entity).sprite.setColor(Color.WHITE);
+            }
+            // Don't move while dizzy
+            return;
+        }
+
+        ai.stateTime += delta;
+
+        // Use exact positions to calculate walk direction
+        Vector2 playerPosition = player.getBody().getPosition();
+        Vector2 position = body.getPosition();
+
+        // Don't let the enemy go out of bounds of the maze
+        float clampedX = Math.max(0.5f, Math.min(position.x, mazeWidth - 0.5f));
+        float clampedY = Math.max(0.5f, Math.min(position.y, mazeHeight - 0.5f));
+        if (position.x != clampedX || position.y != clampedY) {
+            body.setTransform(clampedX, clampedY, body.getAngle());
+        }
+
+        // Check if the enemy is stuck, only while moving randomly
+        if (ai.randomDirection.len() > 0) {
+            if (position.epsilonEquals(ai.lastPosition, STUCK_DISTANCE_EPSILON)) {
+                ai.stuckTimer += delta;
+                if (ai.stuckTimer >= STUCK_TIME_THRESHOLD) {
+                    generateRandomDirection(ai, position);
+                    ai.stuckTimer = 0f;
+                }
+            } else {
+                ai.stuckTimer = 0f;
+            }
+        }
+        ai.lastPosition.set(position);
+
+        // If the player is in proximity and there is a way to them, calculate the path.
+        // There is none while the enemy or the player stands on a tile without a region, e.g. when rounding
+        // puts them on a wall, so the enemy keeps walking randomly until both are back on walkable tiles
+        if (position.dst(playerPosition) <= PROXIMITY && pathfinder.isReachable(position, playerPosition)) {
+            pathfinder.findPath(position, playerPosition, ai.path);
+            // So that when we go through the path we start from the first tile
+            ai.currentTileIndex = 0;
+            ai.randomMoveTimer = 0f;
+        } else {
+            // Every 2 seconds, the enemy picks a new random direction
+            ai.randomMoveTimer += delta;
+            if (ai.randomMoveTimer >= RANDOM_MOVE_INTERVAL) {
+                generateRandomDirection(ai, position);
+                ai.randomMoveTimer = 0f;
+            }
+        }
+
+        if (ai.path.size > 0 && ai.currentTileIndex < ai.path.size) {
+            // Skip tiles that are exits, so enemy doesn't accidentally go out of maze
+            while (ai.currentTileIndex < ai.path.size) {
+                int tile = ai.path.get(ai.currentTileIndex);
+                if (mazeMap.isExitOrEntrance(tile % mazeWidth, tile / mazeWidth)) {
+                    ai.currentTileIndex++;
+                } else {
+                    break;
+                }
+            }
+            // If the enemy is too close to the player, stop moving
+            if (position.dst(playerPosition) <= 0.7f) {
+                body.setLinearVelocity(0, 0);
+                ai.path.clear();
+                return;
+            }
+            if (ai.currentTileIndex >= ai.path.size) {
+                ai.path.clear();
+                return;
+            }
+
+            Vector2 target = pathfinder.getTileCenter(ai.path.get(ai.currentTileIndex), pathTarget);
+            pathDirection.set(target.x - position.x, target.y - position.y).nor();
+            body.setLinearVelocity(pathDirection.x * MOVE_SPEED, pathDirection.y * MOVE_SPEED);
+            updateDirection(ai, pathDirection);
+
+            if (position.epsilonEquals(target, 0.1f)) {
+                ai.currentTileIndex++;
+            }
+        } else if (ai.randomDirection.len() > 0) {
+            body.setLinearVelocity(ai.randomDirection.x * MOVE_SPEED, ai.randomDirection.y * MOVE_SPEED);
+            updateDirection(ai, ai.randomDirection);
+        } else {
+            body.setLinearVelocity(0, 0);
+        }
+
+        updateAnimation(ai, Mappers.sprite.get(entity).sprite);
+    }
+
+    /**
+     * Picks a random direction towards a walkable neighbour tile, or stops the enemy if there is none.
+     *
+     * @param ai       the state of the enemy
+     * @param position the current position of the enemy
+     */
+    private void generateRandomDirection(AIComponent ai, Vector2 position) {
+        int maxAttempts = 10;
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            int dx = 0, dy = 0;
+            switch (random.nextInt(4)) {
+                case 0 -> dx = 1;  // Right
+                case 1 -> dx = -1; // Left
+                case 2 -> dy = 1;  // Up
+                default -> dy = -1; // Down
+            }
+
+            int checkX = (int) (position.x + dx);
+            int checkY = (int) (position.y + dy);
+            // Skip directions outside the maze and exit/entry tiles
+            if (checkX < 0 || checkX >= mazeWidth || checkY < 0 || checkY >= mazeHeight) {
+                continue;
+            }
+            if (mazeMap.isExitOrEntrance(checkX, checkY)) {
+                continue;
+            }
+            if (mazeMap.isWalkable(checkX, checkY)) {
+                ai.randomDirection.set(dx, dy);
+                return;
+            }
+        }
+        ai.randomDirection.setZero(); // Stop if no valid direction
+    }
+
+    /**
+     * Updates the direction the enemy faces based on the movement direction.
+     *
+     * @param ai            the state of the enemy
+     * @param moveDirection the direction the enemy is moving in
+     */
+    private static void updateDirection(AIComponent ai, Vector2 moveDirection) {
+        if (moveDirection.len() > 0) {
+            if (Math.abs(moveDirection.x) > Math.abs(moveDirection.y)) {
+                ai.direction = moveDirection.x > 0 ? "right" : "left";
+            } else {
+                ai.direction = moveDirection.y > 0 ? "up" : "down";
+            }
+        }
+    }
+
+    /**
+     * Sets the frame of the walk cycle in the direction the enemy faces.
+     *
+     * @param ai     the state of the enemy
+     * @param sprite the sprite of the enemy
+     */
+    private static void updateAnimation(AIComponent ai, Sprite sprite) {
+        Animation<TextureRegion> animation = switch (ai.direction) {
+            case "left" -> ai.leftAnimation;
+            case "right" -> ai.rightAnimation;
+            case "up" -> ai.upAnimation;
+            default -> ai.downAnimation;
+        };
+        sprite.setRegion(animation.getKeyFrame(ai.stateTime, true));
+    }
+}
@@ -0,0 +1,63 @@
+package de.tum.cit.fop.maze.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import de.tum.cit.fop.maze.ecs.Mappers;
+import de.tum.cit.fop.maze.ecs.components.CollectedComponent;
+import de.tum.cit.fop.maze.ecs.components.PickupComponent;
+
+/**
+ * Hands the pickups the player touched to the game. Only the touched pickups are part of its family,
+ * so the other items of the maze cost nothing.
+ */
+public class PickupSystem extends IteratingSystem {
+    /**
+     * Applies the effect of a pickup.
+     */
+    public interface Listener {
+        /**
+         * Called once for every pickup the player touched.
+         *
+         * @param pickup the touched pickup
+         */
+        void collect(PickupComponent pickup);
+    }
+
+    private final Listener listener;
+
+    /**
+     * Constructs a new PickupSystem.
+     *
+     * @param listener the listener applying the effects of the pickups
+     */
+    public PickupSystem(Listener listener) {
+        super(Family.all(PickupComponent.class, CollectedComponent.class).get());
+        this.listener = listener;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        // Backwards, as handled pickups leave the family right away while the engine isn't updating
+        ImmutableArray<Entity> entities = getEntities();
+        for (int i = entities.size() - 1; i >= 0; i--) {
+            processEntity(entities.get(i), deltaTime);
+        }
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        entity.remove(CollectedComponent.class);
+        listener.collect(Mappers.pickup.get(entity));
+    }
+
+    /**
+     * Checks if there are touched pickups that were not handled yet.
+     *
+     * @return true if the next update has pickups to handle
+     */
+    public boolean hasPendingPickups() {
+        return getEntities().size() > 0;
+    }
+}
@@ -0,0 +1,70 @@
+package de.tum.cit.fop.maze.ecs.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import de.tum.cit.fop.maze.MazeMap;
+import de.tum.cit.fop.maze.ecs.Mappers;
+import de.tum.cit.fop.maze.ecs.components.SpriteComponent;
+import de.tum.cit.fop.maze.ecs.components.TileSpriteComponent;
+import de.tum.cit.fop.maze.ecs.components.TransformComponent;
+import de.tum.cit.fop.maze.render.RenderQueue;
+
+/**
+ * Submits everything drawn on top of the ground that is inside the visible area: the sprites of the
+ * moving entities centered on their drawn position, and the items and traps at their place on their tile.
+ */
+public class SpriteRenderSystem extends EntitySystem {
+    private final MazeMap mazeMap;
+    private ImmutableArray<Entity> entities;
+    private ImmutableArray<Entity> tileEntities;
+
+    /**
+     * Constructs a new SpriteRenderSystem.
+     *
+     * @param mazeMap the maze, deciding which positions are visible and playing the animations
+     */
+    public SpriteRenderSystem(MazeMap mazeMap) {
+        this.mazeMap = mazeMap;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(Family.all(TransformComponent.class, SpriteComponent.class).get());
+        tileEntities = engine.getEntitiesFor(Family.all(TileSpriteComponent.class).get());
+    }
+
+    /**
+     * Submits the visible sprites. Must be called after {@link TransformSystem#interpolate(float)} and
+     * {@link TrapAnimationSystem#update(float)}.
+     *
+     * @param queue the render queue of the frame
+     */
+    public void submit(RenderQueue queue) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            Vector2 position = Mappers.transform.get(entity).renderPosition;
+            if (!mazeMap.isVisible(position)) continue;
+
+            SpriteComponent spriteComponent = Mappers.sprite.get(entity);
+            Sprite sprite = spriteComponent.sprite;
+            sprite.setPosition(position.x * MazeMap.TILE_SIZE - sprite.getWidth() / 2f,
+                    position.y * MazeMap.TILE_SIZE - sprite.getHeight() / 2f);
+            queue.add(spriteComponent.layer, sprite);
+        }
+
+        float time = mazeMap.getAnimationClock().getTime();
+        for (int i = 0; i < tileEntities.size(); i++) {
+            TileSpriteComponent tile = Mappers.tileSprite.get(tileEntities.get(i));
+            if (!mazeMap.isTileVisible(tile.tileX, tile.tileY)) continue;
+
+            TextureRegion frame = tile.animation != null ? tile.animation.getKeyFrame(time + tile.phase) : tile.region;
+            queue.add(tile.layer, frame, tile.x, tile.y, tile.width, tile.height);
+        }
+    }
+}
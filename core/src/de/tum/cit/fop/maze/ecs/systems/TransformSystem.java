@@ -0,0 +1,38 @@
+package de.tum.cit.fop.maze.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import de.tum.cit.fop.maze.ecs.Mappers;
+import de.tum.cit.fop.maze.ecs.components.BodyComponent;
+import de.tum.cit.fop.maze.ecs.components.TransformComponent;
+
+/**
+ * Remembers the body position of every moving entity before each simulation tick, and moves the
+ * drawn positions between the last two simulated states before each frame is rendered.
+ */
+public class TransformSystem extends IteratingSystem {
+    public TransformSystem() {
+        super(Family.all(TransformComponent.class, BodyComponent.class).get());
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Mappers.transform.get(entity).previousPosition.set(Mappers.body.get(entity).body.getPosition());
+    }
+
+    /**
+     * Moves the drawn position of every moving entity between its body positions before and after the last tick.
+     *
+     * @param alpha how far the simulation is towards the next tick, from 0 to 1
+     */
+    public void interpolate(float alpha) {
+        ImmutableArray<Entity> entities = getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            TransformComponent transform = Mappers.transform.get(entity);
+            transform.renderPosition.set(transform.previousPosition).lerp(Mappers.body.get(entity).body.getPosition(), alpha);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package de.tum.cit.fop.maze.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import de.tum.cit.fop.maze.MazeMap;
+import de.tum.cit.fop.maze.ecs.Mappers;
+import de.tum.cit.fop.maze.ecs.components.TileSpriteComponent;
+import de.tum.cit.fop.maze.ecs.components.TrapAnimationComponent;
+import de.tum.cit.fop.maze.ecs.components.TrapTimerComponent;
+
+/**
+ * Picks the frame of every visible laser trap from the state of its cycle, for the
+ * {@link SpriteRenderSystem} to draw.
+ */
+public class TrapAnimationSystem extends IteratingSystem {
+    private final MazeMap mazeMap;
+
+    /**
+     * Constructs a new TrapAnimationSystem.
+     *
+     * @param mazeMap the maze, deciding which tiles are visible
+     */
+    public TrapAnimationSystem(MazeMap mazeMap) {
+        super(Family.all(TrapTimerComponent.class, TrapAnimationComponent.class, TileSpriteComponent.class).get());
+        this.mazeMap = mazeMap;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TileSpriteComponent tile = Mappers.tileSprite.get(entity);
+        if (!mazeMap.isTileVisible(tile.tileX, tile.tileY)) return;
+
+        TrapTimerComponent timer = Mappers.trapTimer.get(entity);
+        TrapAnimationComponent animations = Mappers.trapAnimation.get(entity);
+        tile.region = switch (timer.state) {
+            case ACTIVATING -> animations.activating.getKeyFrame(timer.stateTime, false);
+            case ACTIVE -> animations.active.getKeyFrame(timer.stateTime, true);
+            case DEACTIVATING -> animations.deactivating.getKeyFrame(timer.stateTime, false);
+            case INACTIVE -> animations.activating.getKeyFrame(0, true);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package de.tum.cit.fop.maze.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import de.tum.cit.fop.maze.ecs.Mappers;
+import de.tum.cit.fop.maze.ecs.components.TrapTimerComponent;
+import de.tum.cit.fop.maze.ecs.components.TrapTimerComponent.State;
+
+/**
+ * Runs the on and off cycle of every laser trap, including the ones outside the view.
+ */
+public class TrapTimerSystem extends IteratingSystem {
+    public TrapTimerSystem() {
+        super(Family.all(TrapTimerComponent.class).get());
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TrapTimerComponent timer = Mappers.trapTimer.get(entity);
+        if (timer.paused) return;
+
+        timer.previousDangerous = timer.isDangerous();
+        timer.stateTime += deltaTime;
+        switch (timer.state) {
+            case ACTIVATING -> {
+                if (timer.stateTime >= timer.activatingDuration) timer.enter(State.ACTIVE);
+            }
+            case ACTIVE -> {
+                if (timer.stateTime >= timer.activeDuration) timer.enter(State.DEACTIVATING);
+            }
+            case DEACTIVATING -> {
+                if (timer.stateTime >= timer.deactivatingDuration) timer.enter(State.INACTIVE);
+            }
+            case INACTIVE -> {
+                if (timer.stateTime >= timer.inactiveDuration) timer.enter(State.ACTIVATING);
+            }
+        }
+    }
+}
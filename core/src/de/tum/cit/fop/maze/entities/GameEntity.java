@@ -3,6 +3,7 @@
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
+import de.tum.cit.fop.maze.ecs.Mappers;
 import de.tum.cit.fop.maze.objects.GameObject;
 
 /**
@@ -56,6 +57,15 @@ public void setPosition(Vector2 position) {
         this.position = position;
     }
 
+    /**
+     * Gets the position the entity is drawn at, between its last two simulated positions.
+     *
+     * @return the drawn position in tile units
+     */
+    public Vector2 getRenderPosition() {
+        return Mappers.transform.get(entity).renderPosition;
+    }
+
     /**
      * Gets the texture region of the entity.
      *
@@ -73,11 +83,4 @@ public TextureRegion getTexture() {
     public void setTexture(TextureRegion texture) {
         this.texture = texture;
     }
-
-    /**
-     * Updates the state of the entity.
-     *
-     * @param delta the time elapsed since the last update
-     */
-    public abstract void update(float delta);
 }
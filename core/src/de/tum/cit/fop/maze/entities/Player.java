@@ -1,16 +1,21 @@
 package de.tum.cit.fop.maze.entities;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
 import de.tum.cit.fop.maze.MazeMap;
+import de.tum.cit.fop.maze.assets.GameAssets;
+import de.tum.cit.fop.maze.ecs.components.BodyComponent;
+import de.tum.cit.fop.maze.ecs.components.SpriteComponent;
+import de.tum.cit.fop.maze.ecs.components.TransformComponent;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
+import de.tum.cit.fop.maze.render.RenderLayer;
 
 /**
  * Represents the player entity in the maze game.
@@ -32,7 +37,10 @@ public class Player extends GameEntity {
     private float damageEffectTimer = 0f;
     private static final float DAMAGE_EFFECT_DURATION = 0.5f;
     private final Color damageColor = new Color(1, 0.3f, 0.3f, 1); // Red tint color
+    private final Color tintColor = new Color();
     private float contactTimer = 0f;
+    // Number of enemies touching the player, counted by the contact listener
+    private int enemyContacts = 0;
     private static final float CONTACT_DAMAGE_INTERVAL = 1.0f;
 
     private float abilityActiveTimer = 0f;
@@ -44,23 +52,31 @@ public class Player extends GameEntity {
      * @param world         the Box2D world the player belongs to
      * @param mazeMap       the maze map the player navigates
      * @param startPosition the starting position of the player
+     * @param assets        the shared game assets
      */
-    public Player(World world, MazeMap mazeMap, Vector2 startPosition) {
-        super((int) startPosition.x, (int) startPosition.y, 20, 20, new TextureRegion(new Texture(Gdx.files.internal("cat.png")), 0, 32, 32, 32));
+    public Player(World world, MazeMap mazeMap, Vector2 startPosition, GameAssets assets) {
+        super((int) startPosition.x, (int) startPosition.y, 20, 20, assets.getRegion("cat", 0, 32, 32, 32));
         this.world = world;
         this.mazeMap = mazeMap;
-        loadAnimations();
+        loadAnimations(assets);
         this.body = createBody(startPosition);
         this.speed = MOVE_SPEED;
+
+        entity = new Entity();
+        entity.add(new TransformComponent(body.getPosition()));
+        entity.add(new BodyComponent(body));
+        entity.add(new SpriteComponent(sprite, RenderLayer.ENTITIES));
         this.lives = PLAYER_LIVES;
         this.slowTimer = 0;
     }
 
     /**
      * Loads the animations for the player character.
+     *
+     * @param assets the shared game assets
      */
-    private void loadAnimations() {
-        Texture characterSheet = new Texture(Gdx.files.internal("cat.png"));
+    private void loadAnimations(GameAssets assets) {
+        TextureRegion characterSheet = assets.getRegion("cat");
         int frameWidth = 32, frameHeight = 32, frames = 4;
 
         Array<TextureRegion> downFrames = new Array<>(frames);
@@ -110,8 +126,10 @@ private Body createBody(Vector2 startPosition) {
         fixtureDef.shape = shape;
         fixtureDef.density = 1.0f;
         fixtureDef.friction = 0.0f;
-        fixtureDef.filter.categoryBits = 0x0001;
-        fixtureDef.filter.maskBits = 0x0002 | 0x0004 | 0x0008 | 0x0010 | 0x0009 | 0x0011; // Collide with walls, fish, slow tiles, hearts, ability and enemies
+        fixtureDef.filter.categoryBits = CollisionCategory.PLAYER;
+        fixtureDef.filter.maskBits = CollisionCategory.WALL | CollisionCategory.LASER_TRAP | CollisionCategory.FISH
+                | CollisionCategory.EXIT | CollisionCategory.SLOW_TILE | CollisionCategory.ENEMY
+                | CollisionCategory.HEART | CollisionCategory.ABILITY;
 
         Fixture fixture = body.createFixture(fixtureDef);
         fixture.setSensor(true);
@@ -130,7 +148,6 @@ private Body createBody(Vector2 startPosition) {
      *
      * @param delta the time elapsed since the last update
      */
-    @Override
     public void update(float delta) {
         stateTime += delta;
 
@@ -146,8 +163,7 @@ public void update(float delta) {
             damageEffectTimer = Math.max(0, damageEffectTimer - delta);
             // Calculate color interpolation, from white to red
             float progress = damageEffectTimer / DAMAGE_EFFECT_DURATION;
-            Color currentColor = new Color(Color.WHITE).lerp(damageColor, progress);
-            sprite.setColor(currentColor);
+            sprite.setColor(tintColor.set(Color.WHITE).lerp(damageColor, progress));
         } else {
             sprite.setColor(Color.WHITE);
         }
@@ -200,7 +216,7 @@ public void update(float delta) {
         }
 
         // Check for contact with enemies
-        if (isInContactWithEnemy()) {
+        if (enemyContacts > 0) {
             contactTimer += delta;
             // If enemy contact is maintained for a certain time, lose again a life
             if (contactTimer >= CONTACT_DAMAGE_INTERVAL) {
@@ -215,22 +231,18 @@ public void update(float delta) {
     }
 
     /**
-     * Checks if the player is in contact with an enemy.
-     *
-     * @return true if the player is in contact with an enemy, false otherwise
+     * Notes that an enemy started touching the player. Called from the contact listener, so checking
+     * for enemy contact takes constant time instead of a walk over every contact of the world.
      */
-    private boolean isInContactWithEnemy() {
-        for (Contact contact : world.getContactList()) {
-            if (contact.isTouching()) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-                if ((fixtureA.getBody().getUserData() instanceof Enemy && fixtureB.getBody().getUserData() == this) ||
-                        (fixtureB.getBody().getUserData() instanceof Enemy && fixtureA.getBody().getUserData() == this)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    public void beginEnemyContact() {
+        enemyContacts++;
+    }
+
+    /**
+     * Notes that an enemy stopped touching the player.
+     */
+    public void endEnemyContact() {
+        enemyContacts--;
     }
 
     /**
@@ -257,19 +269,6 @@ private void updateAnimation() {
         }
     }
 
-    /**
-     * Renders the player sprite.
-     *
-     * @param batch the SpriteBatch used for drawing
-     */
-    public void render(SpriteBatch batch) {
-        float spriteX = body.getPosition().x * MazeMap.TILE_SIZE - sprite.getWidth() / 2f;
-        float spriteY = body.getPosition().y * MazeMap.TILE_SIZE - sprite.getHeight() / 2f;
-
-        sprite.setPosition(spriteX, spriteY);
-        sprite.draw(batch);
-    }
-
     /**
      * Reduces the player's lives by a specified amount.
      *
@@ -0,0 +1,231 @@
+package de.tum.cit.fop.maze.generator;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import de.tum.cit.fop.maze.map.TileGrid;
+
+import java.util.Arrays;
+
+/**
+ * Generates random mazes from a seed, writing the tiles straight into a {@link TileGrid}.
+ * The corridors are carved with an iterative recursive backtracker on the cells at odd coordinates,
+ * then a few walls are knocked out to add loops, and finally the entry, exits, items and enemies are placed.
+ * The same seed and size always produce the same maze. Besides the tile layer, the only memory used is
+ * the backtracking stack, so even 4096x4096 mazes are generated in well under a second.
+ */
+public class MazeGenerator {
+    public static final int MIN_SIZE = 7;
+    // Prefix of the map paths referring to generated mazes, see toMapPath
+    public static final String MAP_PATH_PREFIX = "generated:";
+
+    // Chance that a wall between two corridors is removed, so the maze has loops to escape enemies through
+    private static final float LOOP_CHANCE = 0.05f;
+    // Cumulative chances of each object per path cell
+    private static final float LASER_TRAP_CHANCE = 0.010f;
+    private static final float ENEMY_CHANCE = LASER_TRAP_CHANCE + 0.004f;
+    private static final float FISH_CHANCE = ENEMY_CHANCE + 0.010f;
+    private static final float SLOW_TILE_CHANCE = FISH_CHANCE + 0.006f;
+    private static final float HEART_CHANCE = SLOW_TILE_CHANCE + 0.003f;
+    private static final float ABILITY_CHANCE = HEART_CHANCE + 0.002f;
+    // No objects are placed within this many tiles of the entry
+    private static final int SAFE_RADIUS = 6;
+
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {1, -1, 0, 0};
+
+    private final long seed;
+    private final int width, height;
+
+    /**
+     * Constructs a new MazeGenerator.
+     *
+     * @param seed   the seed of the random generator
+     * @param width  the width of the maze in tiles
+     * @param height the height of the maze in tiles
+     */
+    public MazeGenerator(long seed, int width, int height) {
+        if (width < MIN_SIZE || height < MIN_SIZE) {
+            throw new IllegalArgumentException("Maze must be at least " + MIN_SIZE + "x" + MIN_SIZE + ", got " + width + "x" + height);
+        }
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Generates the maze.
+     *
+     * @return a new grid holding the generated tiles
+     */
+    public TileGrid generate() {
+        TileGrid grid = new TileGrid(width, height);
+        byte[] tiles = grid.getTiles();
+        RandomXS128 random = new RandomXS128(seed);
+        Arrays.fill(tiles, TileGrid.WALL);
+
+        carveCorridors(tiles, random);
+        addLoops(tiles, random);
+        int entryY = placeEntryAndExits(tiles, random);
+        placeObjects(tiles, random, entryY);
+        return grid;
+    }
+
+    /**
+     * Carves a perfect maze with a recursive backtracker, using an explicit stack instead of recursion.
+     * Cell (cx, cy) lies on tile (2 * cx + 1, 2 * cy + 1), the tiles in between are the walls that get carved.
+     */
+    private void carveCorridors(byte[] tiles, RandomXS128 random) {
+        int cellsX = (width - 1) / 2, cellsY = (height - 1) / 2;
+        int[] candidates = new int[4];
+        IntArray stack = new IntArray();
+
+        int start = random.nextInt(cellsX) + random.nextInt(cellsY) * cellsX;
+        tiles[tileIndex(start % cellsX, start / cellsX)] = TileGrid.PATH;
+        stack.add(start);
+        while (stack.size > 0) {
+            int cell = stack.peek();
+            int cx = cell % cellsX, cy = cell / cellsX;
+
+            // Collect the unvisited neighbours, a cell is visited once its tile was carved
+            int count = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = cx + DX[dir], ny = cy + DY[dir];
+                if (nx < 0 || ny < 0 || nx >= cellsX || ny >= cellsY) continue;
+                if (tiles[tileIndex(nx, ny)] == TileGrid.WALL) candidates[count++] = dir;
+            }
+            if (count == 0) {
+                stack.pop();
+                continue;
+            }
+
+            int dir = candidates[random.nextInt(count)];
+            int nx = cx + DX[dir], ny = cy + DY[dir];
+            // Carve the wall between the two cells and the new cell itself
+            tiles[(2 * cx + 1 + DX[dir]) + (2 * cy + 1 + DY[dir]) * width] = TileGrid.PATH;
+            tiles[tileIndex(nx, ny)] = TileGrid.PATH;
+            stack.add(nx + ny * cellsX);
+        }
+    }
+
+    /**
+     * Removes some of the walls separating two corridors.
+     */
+    private void addLoops(byte[] tiles, RandomXS128 random) {
+        for (int y = 1; y < height - 1; y++) {
+            // Walls between two cells lie on an odd row and an even column or the other way round
+            for (int x = 2 - (y & 1); x < width - 1; x += 2) {
+                int index = x + y * width;
+                if (tiles[index] != TileGrid.WALL) continue;
+                boolean horizontal = tiles[index - 1] == TileGrid.PATH && tiles[index + 1] == TileGrid.PATH;
+                boolean vertical = tiles[index - width] == TileGrid.PATH && tiles[index + width] == TileGrid.PATH;
+                if ((horizontal || vertical) && random.nextFloat() < LOOP_CHANCE) {
+                    tiles[index] = TileGrid.PATH;
+                }
+            }
+        }
+    }
+
+    /**
+     * Places the entry on the left border and one exit on each of the other borders.
+     *
+     * @return the row of the entry
+     */
+    private int placeEntryAndExits(byte[] tiles, RandomXS128 random) {
+        int cellsX = (width - 1) / 2, cellsY = (height - 1) / 2;
+
+        int entryY = 2 * random.nextInt(cellsY) + 1;
+        tiles[entryY * width] = TileGrid.ENTRY;
+
+        // Bottom border, right next to a cell
+        tiles[2 * random.nextInt(cellsX) + 1] = TileGrid.EXIT;
+
+        // Right and top border, an even size leaves an extra wall row between the last cells and the border
+        int exitY = 2 * random.nextInt(cellsY) + 1;
+        for (int x = 2 * cellsX; x < width - 1; x++) tiles[x + exitY * width] = TileGrid.PATH;
+        tiles[width - 1 + exitY * width] = TileGrid.EXIT;
+
+        int exitX = 2 * random.nextInt(cellsX) + 1;
+        for (int y = 2 * cellsY; y < height - 1; y++) tiles[exitX + y * width] = TileGrid.PATH;
+        tiles[exitX + (height - 1) * width] = TileGrid.EXIT;
+        return entryY;
+    }
+
+    /**
+     * Scatters traps, enemies, fish, slow tiles, hearts and abilities over the corridors.
+     * Always places at least one fish, as the exits only open for a player carrying fish.
+     */
+    private void placeObjects(byte[] tiles, RandomXS128 random, int entryY) {
+        boolean hasFish = false;
+        for (int y = 1; y < height - 1; y++) {
+            for (int x = 1; x < width - 1; x++) {
+                int index = x + y * width;
+                if (tiles[index] != TileGrid.PATH || x + Math.abs(y - entryY) <= SAFE_RADIUS) continue;
+
+                float roll = random.nextFloat();
+                if (roll >= ABILITY_CHANCE) continue;
+                byte type;
+                if (roll < LASER_TRAP_CHANCE) type = TileGrid.LASER_TRAP;
+                else if (roll < ENEMY_CHANCE) type = TileGrid.ENEMY;
+                else if (roll < FISH_CHANCE) type = TileGrid.FISH;
+                else if (roll < SLOW_TILE_CHANCE) type = TileGrid.SLOW_TILE;
+                else if (roll < HEART_CHANCE) type = TileGrid.HEART;
+                else type = TileGrid.ABILITY;
+                tiles[index] = type;
+                hasFish |= type == TileGrid.FISH;
+            }
+        }
+
+        if (!hasFish) {
+            // The cell in the far corner is always carved and outside the safe radius
+            tiles[tileIndex((width - 1) / 2 - 1, (height - 1) / 2 - 1)] = TileGrid.FISH;
+        }
+    }
+
+    private int tileIndex(int cellX, int cellY) {
+        return (2 * cellX + 1) + (2 * cellY + 1) * width;
+    }
+
+    /**
+     * Builds the map path referring to a generated maze, so it can be (re)loaded like a map file.
+     *
+     * @param seed   the seed of the maze
+     * @param width  the width of the maze in tiles
+     * @param height the height of the maze in tiles
+     * @return a path of the form "generated:WIDTHxHEIGHT:SEED"
+     */
+    public static String toMapPath(long seed, int width, int height) {
+        return MAP_PATH_PREFIX + width + "x" + height + ":" + seed;
+    }
+
+    /**
+     * Checks if a map path refers to a generated maze.
+     *
+     * @param mapPath the map path to check
+     * @return true if the path was built by {@link #toMapPath}
+     */
+    public static boolean isGeneratedMapPath(String mapPath) {
+        return mapPath.startsWith(MAP_PATH_PREFIX);
+    }
+
+    /**
+     * Generates the maze a map path built by {@link #toMapPath} refers to.
+     *
+     * @param mapPath the map path
+     * @return the generated grid
+     * @throws IllegalArgumentException if the path is malformed
+     */
+    public static TileGrid fromMapPath(String mapPath) {
+        if (!isGeneratedMapPath(mapPath)) {
+            throw new IllegalArgumentException("Not a generated map path: " + mapPath);
+        }
+        String[] parts = mapPath.substring(MAP_PATH_PREFIX.length()).split("[x:]");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Not a generated map path: " + mapPath);
+        }
+        try {
+            return new MazeGenerator(Long.parseLong(parts[2]), Integer.parseInt(parts[0]), Integer.parseInt(parts[1])).generate();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a generated map path: " + mapPath, e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package de.tum.cit.fop.maze.generator;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
+import de.tum.cit.fop.maze.map.MazeBinaryFormat;
+import de.tum.cit.fop.maze.map.TileGrid;
+
+import java.io.IOException;
+
+/**
+ * Command line tool that generates a random maze and writes it as a .mazebin map file.
+ * Usage: {@code MazeGeneratorTool <width> <height> [seed] [output]}.
+ * Without a seed, the current time is used. Without an output path, the map is written to
+ * "maps/Generated WIDTHxHEIGHT SEED.mazebin", where it shows up in the map selection.
+ */
+public class MazeGeneratorTool {
+
+    /**
+     * Generates a maze from the command line arguments.
+     *
+     * @param args the width, height, optional seed and optional output path
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println("Usage: MazeGeneratorTool <width> <height> [seed] [output]");
+            System.exit(1);
+        }
+
+        try {
+            int width = Integer.parseInt(args[0]);
+            int height = Integer.parseInt(args[1]);
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : TimeUtils.millis();
+            FileHandle output = new FileHandle(args.length > 3 ? args[3]
+                    : "maps/Generated " + width + "x" + height + " " + seed + "." + MazeBinaryFormat.EXTENSION);
+
+            long start = TimeUtils.millis();
+            TileGrid grid = new MazeGenerator(seed, width, height).generate();
+            long generated = TimeUtils.millis();
+            MazeBinaryFormat.write(grid, output);
+
+            System.out.println("Generated " + width + "x" + height + " maze with seed " + seed + " in "
+                    + (generated - start) + " ms, written to " + output.path() + " in " + (TimeUtils.millis() - generated) + " ms");
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to generate maze: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
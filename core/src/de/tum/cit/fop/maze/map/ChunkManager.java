@@ -0,0 +1,172 @@
+package de.tum.cit.fop.maze.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a maze into fixed-size chunks and keeps only the chunks around a given area loaded.
+ * Chunks are created lazily the first time they come into range, so memory and load time
+ * depend on the explored area instead of the size of the maze.
+ */
+public class ChunkManager {
+    public static final int CHUNK_SIZE = 32;
+    // Chunks within this many chunks of the requested area get loaded
+    private static final int LOAD_MARGIN = 1;
+    // Chunks are only unloaded once they are further away than this, so walking along a chunk border doesn't thrash
+    private static final int UNLOAD_MARGIN = 2;
+
+    /**
+     * Callback creating and releasing the content of a chunk.
+     */
+    public interface ChunkLoader {
+        /**
+         * Creates the objects and physics bodies of a chunk that just became active.
+         *
+         * @param chunk the chunk to load
+         */
+        void load(MazeChunk chunk);
+
+        /**
+         * Releases the objects and physics bodies of a chunk that went out of range.
+         *
+         * @param chunk the chunk to unload
+         */
+        void unload(MazeChunk chunk);
+    }
+
+    private final TileGrid grid;
+    private final int chunkSize;
+    private final int chunksX, chunksY;
+    private final MazeChunk[] chunks;
+    private final List<MazeChunk> activeChunks = new ArrayList<>();
+    private final ChunkLoader loader;
+
+    /**
+     * Constructs a new ChunkManager with the default chunk size.
+     *
+     * @param grid   the grid to split into chunks
+     * @param loader the callback loading and unloading chunks
+     */
+    public ChunkManager(TileGrid grid, ChunkLoader loader) {
+        this(grid, CHUNK_SIZE, loader);
+    }
+
+    /**
+     * Constructs a new ChunkManager.
+     *
+     * @param grid      the grid to split into chunks
+     * @param chunkSize the size of a chunk in tiles
+     * @param loader    the callback loading and unloading chunks
+     */
+    public ChunkManager(TileGrid grid, int chunkSize, ChunkLoader loader) {
+        this.grid = grid;
+        this.chunkSize = chunkSize;
+        this.loader = loader;
+        this.chunksX = (grid.getWidth() + chunkSize - 1) / chunkSize;
+        this.chunksY = (grid.getHeight() + chunkSize - 1) / chunkSize;
+        this.chunks = new MazeChunk[chunksX * chunksY];
+    }
+
+    /**
+     * Loads the chunks overlapping the given tile area (plus a margin) and unloads the ones that left it.
+     *
+     * @param minX the left edge of the area in tiles
+     * @param minY the bottom edge of the area in tiles
+     * @param maxX the right edge of the area in tiles
+     * @param maxY the top edge of the area in tiles
+     */
+    public void update(int minX, int minY, int maxX, int maxY) {
+        int minChunkX = Math.floorDiv(minX, chunkSize), maxChunkX = Math.floorDiv(maxX, chunkSize);
+        int minChunkY = Math.floorDiv(minY, chunkSize), maxChunkY = Math.floorDiv(maxY, chunkSize);
+
+        // Unload chunks that are too far away, iterating backwards so we can remove while iterating
+        for (int i = activeChunks.size() - 1; i >= 0; i--) {
+            MazeChunk chunk = activeChunks.get(i);
+            if (chunk.getChunkX() < minChunkX - UNLOAD_MARGIN || chunk.getChunkX() > maxChunkX + UNLOAD_MARGIN ||
+                    chunk.getChunkY() < minChunkY - UNLOAD_MARGIN || chunk.getChunkY() > maxChunkY + UNLOAD_MARGIN) {
+                loader.unload(chunk);
+                chunk.setActive(false);
+                // Swap with the last element for O(1) removal, the order of active chunks doesn't matter
+                activeChunks.set(i, activeChunks.get(activeChunks.size() - 1));
+                activeChunks.remove(activeChunks.size() - 1);
+            }
+        }
+
+        int fromX = Math.max(0, minChunkX - LOAD_MARGIN), toX = Math.min(chunksX - 1, maxChunkX + LOAD_MARGIN);
+        int fromY = Math.max(0, minChunkY - LOAD_MARGIN), toY = Math.min(chunksY - 1, maxChunkY + LOAD_MARGIN);
+        for (int chunkY = fromY; chunkY <= toY; chunkY++) {
+            for (int chunkX = fromX; chunkX <= toX; chunkX++) {
+                int index = chunkX + chunkY * chunksX;
+                MazeChunk chunk = chunks[index];
+                if (chunk == null) {
+                    chunk = new MazeChunk(chunkX, chunkY, chunkSize, grid);
+                    chunks[index] = chunk;
+                }
+                if (!chunk.isActive()) {
+                    loader.load(chunk);
+                    chunk.setActive(true);
+                    activeChunks.add(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the loaded chunks overlapping the given tile area, e.g. after some of its tiles changed.
+     *
+     * @param minX the left edge of the area in tiles
+     * @param minY the bottom edge of the area in tiles
+     * @param maxX the right edge of the area in tiles
+     * @param maxY the top edge of the area in tiles
+     */
+    public void reload(int minX, int minY, int maxX, int maxY) {
+        int fromX = Math.max(0, Math.floorDiv(minX, chunkSize)), toX = Math.min(chunksX - 1, Math.floorDiv(maxX, chunkSize));
+        int fromY = Math.max(0, Math.floorDiv(minY, chunkSize)), toY = Math.min(chunksY - 1, Math.floorDiv(maxY, chunkSize));
+        for (int chunkY = fromY; chunkY <= toY; chunkY++) {
+            for (int chunkX = fromX; chunkX <= toX; chunkX++) {
+                MazeChunk chunk = chunks[chunkX + chunkY * chunksX];
+                if (chunk != null && chunk.isActive()) {
+                    loader.unload(chunk);
+                    loader.load(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unloads every active chunk, e.g. when the level is disposed.
+     */
+    public void unloadAll() {
+        for (MazeChunk chunk : activeChunks) {
+            loader.unload(chunk);
+            chunk.setActive(false);
+        }
+        activeChunks.clear();
+    }
+
+    /**
+     * Checks if the chunk containing the given tile is loaded.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return true if the tile lies inside the maze and its chunk is active
+     */
+    public boolean isActiveAt(int x, int y) {
+        if (!grid.inBounds(x, y)) return false;
+        MazeChunk chunk = chunks[x / chunkSize + (y / chunkSize) * chunksX];
+        return chunk != null && chunk.isActive();
+    }
+
+    /**
+     * Gets the currently loaded chunks, in no particular order.
+     *
+     * @return the active chunks
+     */
+    public List<MazeChunk> getActiveChunks() {
+        return activeChunks;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
@@ -0,0 +1,106 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Procedural grass and tree border drawn around the maze.
+ * Nothing is stored per tile: only the tiles inside the camera view are drawn, and whether a tile
+ * holds a tree is derived from a hash of its coordinates, so the border looks the same on every run.
+ */
+public class DecorationLayer {
+    // Same odds as the old random placement: 8% first tree, 4% second tree
+    private static final float TREE1_CHANCE = 0.08f;
+    private static final float TREE2_CHANCE = 0.12f;
+
+    private final int tileSize;
+    private final int mazeWidth, mazeHeight;
+    private final int padding;
+    private final TextureRegion grassTexture, tree1Texture, tree2Texture;
+
+    /**
+     * Constructs a new DecorationLayer.
+     *
+     * @param mazeWidth    the width of the maze in tiles
+     * @param mazeHeight   the height of the maze in tiles
+     * @param tileSize     the size of a tile in pixels
+     * @param grassTexture the texture drawn on every border tile
+     * @param tree1Texture the texture of the first tree type
+     * @param tree2Texture the texture of the second tree type
+     */
+    public DecorationLayer(int mazeWidth, int mazeHeight, int tileSize, TextureRegion grassTexture, TextureRegion tree1Texture, TextureRegion tree2Texture) {
+        this.mazeWidth = mazeWidth;
+        this.mazeHeight = mazeHeight;
+        this.tileSize = tileSize;
+        this.grassTexture = grassTexture;
+        this.tree1Texture = tree1Texture;
+        this.tree2Texture = tree2Texture;
+        // How far out from the maze the grass extends
+        this.padding = Math.max(50, Math.max(mazeWidth, mazeHeight));
+    }
+
+    /**
+     * Draws the grass and trees of the border tiles visible to the camera.
+     *
+     * @param batch  the SpriteBatch used for rendering
+     * @param camera the camera whose view is drawn
+     */
+    public void render(SpriteBatch batch, OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        int startX = Math.max(-padding, (int) Math.floor((camera.position.x - halfWidth) / tileSize));
+        int startY = Math.max(-padding, (int) Math.floor((camera.position.y - halfHeight) / tileSize));
+        int endX = Math.min(mazeWidth + padding - 1, (int) Math.floor((camera.position.x + halfWidth) / tileSize));
+        int endY = Math.min(mazeHeight + padding - 1, (int) Math.floor((camera.position.y + halfHeight) / tileSize));
+
+        for (int y = startY; y <= endY; y++) {
+            boolean rowInsideMaze = y >= 0 && y < mazeHeight;
+            for (int x = startX; x <= endX; x++) {
+                if (rowInsideMaze && x >= 0 && x < mazeWidth) {
+                    // Skip the maze itself
+                    x = mazeWidth - 1;
+                    continue;
+                }
+                float px = x * tileSize, py = y * tileSize;
+                batch.draw(grassTexture, px, py, tileSize, tileSize);
+                TextureRegion tree = getTree(x, y);
+                if (tree != null) {
+                    batch.draw(tree, px, py, tileSize, tileSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the tree growing on a border tile.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return the tree texture, or null if the tile only has grass
+     */
+    public TextureRegion getTree(int x, int y) {
+        float random = hash(x, y);
+        if (random < TREE1_CHANCE) return tree1Texture;
+        if (random < TREE2_CHANCE) return tree2Texture;
+        return null;
+    }
+
+    /**
+     * Hashes tile coordinates to a pseudo-random number that is stable across runs.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return a number in [0, 1)
+     */
+    public static float hash(int x, int y) {
+        int h = x * 0x27d4eb2d ^ y * 0x165667b1;
+        // Final mix of MurmurHash3
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h >>> 8) / (float) (1 << 24);
+    }
+}
@@ -0,0 +1,120 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import de.tum.cit.fop.maze.ecs.Mappers;
+import de.tum.cit.fop.maze.entities.Enemy;
+import de.tum.cit.fop.maze.objects.ExitPoint;
+import de.tum.cit.fop.maze.objects.GameObject;
+import de.tum.cit.fop.maze.objects.LaserTrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Live lists of the game objects of a maze by type, updated whenever an object is added to or removed
+ * from the maze. Code working on one kind of object iterates its list instead of scanning the tile grid,
+ * so the cost follows the number of objects rather than the size of the maze. The lists are read-only
+ * views that are never copied; iterating them by index allocates nothing.
+ * Objects are sorted by the components of their entity, so a new kind of enemy, trap or pickup is
+ * listed without changes here.
+ */
+public class EntityRegistry {
+    private final List<Enemy> enemies = new ArrayList<>();
+    private final List<LaserTrap> laserTraps = new ArrayList<>();
+    private final List<ExitPoint> exitPoints = new ArrayList<>();
+    // Fish, hearts and abilities that are still waiting to be collected
+    private final List<GameObject> pickups = new ArrayList<>();
+    // Position of each pickup in its list, so collecting one doesn't search the list
+    private final ObjectIntMap<GameObject> pickupIndices = new ObjectIntMap<>();
+
+    private final List<Enemy> enemiesView = Collections.unmodifiableList(enemies);
+    private final List<LaserTrap> laserTrapsView = Collections.unmodifiableList(laserTraps);
+    private final List<ExitPoint> exitPointsView = Collections.unmodifiableList(exitPoints);
+    private final List<GameObject> pickupsView = Collections.unmodifiableList(pickups);
+
+    /**
+     * Adds an object to the list of its type: enemies have an {@link de.tum.cit.fop.maze.ecs.components.AIComponent},
+     * laser traps a {@link de.tum.cit.fop.maze.ecs.components.TrapTimerComponent} and pickups a
+     * {@link de.tum.cit.fop.maze.ecs.components.PickupComponent}. Objects without an entity, e.g. walls, are ignored.
+     *
+     * @param object the object placed in the maze
+     */
+    public void add(GameObject object) {
+        Entity entity = object.getEntity();
+        if (entity == null) return;
+        if (Mappers.ai.has(entity)) {
+            enemies.add((Enemy) object);
+        } else if (Mappers.trapTimer.has(entity)) {
+            laserTraps.add((LaserTrap) object);
+        } else if (Mappers.pickup.has(entity) && !pickupIndices.containsKey(object)) {
+            pickupIndices.put(object, pickups.size());
+            pickups.add(object);
+        }
+    }
+
+    /**
+     * Adds an exit point. Exits are part of the ground and no system works on them, so they have no entity.
+     *
+     * @param exitPoint the exit point placed in the maze
+     */
+    public void addExitPoint(ExitPoint exitPoint) {
+        exitPoints.add(exitPoint);
+    }
+
+    /**
+     * Removes an object from the list of its type.
+     *
+     * @param object the object taken out of the maze
+     */
+    public void remove(GameObject object) {
+        Entity entity = object.getEntity();
+        if (entity == null) return;
+        if (Mappers.ai.has(entity)) {
+            enemies.remove(object);
+        } else if (Mappers.trapTimer.has(entity)) {
+            laserTraps.remove(object);
+        } else if (Mappers.pickup.has(entity)) {
+            removePickup(object);
+        }
+    }
+
+    // Moves the last pickup into the freed slot instead of shifting the rest of the list
+    private void removePickup(GameObject object) {
+        int index = pickupIndices.remove(object, -1);
+        if (index < 0) return;
+        GameObject last = pickups.remove(pickups.size() - 1);
+        if (last != object) {
+            pickups.set(index, last);
+            pickupIndices.put(last, index);
+        }
+    }
+
+    /**
+     * Gets the enemies of the maze, always in the order they were added.
+     *
+     * @return read-only list of the enemies
+     */
+    public List<Enemy> getEnemies() {
+        return enemiesView;
+    }
+
+    public List<LaserTrap> getLaserTraps() {
+        return laserTrapsView;
+    }
+
+    public List<ExitPoint> getExitPoints() {
+        return exitPointsView;
+    }
+
+    /**
+     * Gets the fish, hearts and abilities that were not collected yet. Unlike the enemies, the order
+     * changes when a pickup is removed.
+     *
+     * @return read-only list of the pickups
+     */
+    public List<GameObject> getPickups() {
+        return pickupsView;
+    }
+}
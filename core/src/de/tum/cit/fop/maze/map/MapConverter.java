@@ -0,0 +1,59 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+
+/**
+ * Command line tool that compiles .properties map files into the binary .mazebin format.
+ * Each argument is either a map file or a directory whose .properties files are all converted.
+ * The output is written next to the input file with the .mazebin extension.
+ */
+public class MapConverter {
+
+    /**
+     * Converts the given map files or directories.
+     *
+     * @param args paths of map files or directories containing map files, defaults to "maps"
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            args = new String[]{"maps"};
+        }
+
+        int converted = 0, failed = 0;
+        for (String arg : args) {
+            FileHandle input = new FileHandle(arg);
+            FileHandle[] files = input.isDirectory() ? input.list("." + MapLoader.PROPERTIES_EXTENSION) : new FileHandle[]{input};
+            for (FileHandle file : files) {
+                try {
+                    FileHandle output = convert(file);
+                    System.out.println("Converted " + file.path() + " -> " + output.path());
+                    converted++;
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Failed to convert " + file.path() + ": " + e.getMessage());
+                    failed++;
+                }
+            }
+        }
+
+        System.out.println(converted + " map(s) converted, " + failed + " failed");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Converts a single .properties map file into a .mazebin file next to it.
+     *
+     * @param file the .properties map file
+     * @return the written .mazebin file
+     * @throws IOException if the input cannot be read or the output cannot be written
+     */
+    public static FileHandle convert(FileHandle file) throws IOException {
+        TileGrid grid = MapLoader.loadProperties(file);
+        FileHandle output = file.sibling(file.nameWithoutExtension() + "." + MazeBinaryFormat.EXTENSION);
+        MazeBinaryFormat.write(grid, output);
+        return output;
+    }
+}
@@ -0,0 +1,60 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+
+/**
+ * Loads the tile types of a maze from a map file into a {@link TileGrid}.
+ * Supports the text format (.properties, one "x,y=type" entry per tile) and the compiled binary format (.mazebin).
+ */
+public class MapLoader {
+    public static final String PROPERTIES_EXTENSION = "properties";
+
+    /**
+     * Loads a map file, choosing the format based on the file extension.
+     *
+     * @param file the map file
+     * @return the grid holding the tile types of the map
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static TileGrid load(FileHandle file) throws IOException {
+        if (MazeBinaryFormat.EXTENSION.equals(file.extension())) {
+            return MazeBinaryFormat.read(file);
+        }
+        return loadProperties(file);
+    }
+
+    /**
+     * Checks if a file is a map file in one of the supported formats.
+     *
+     * @param file the file to check
+     * @return true if the file can be loaded by {@link #load(FileHandle)}
+     */
+    public static boolean isMapFile(FileHandle file) {
+        String extension = file.extension();
+        return PROPERTIES_EXTENSION.equals(extension) || MazeBinaryFormat.EXTENSION.equals(extension);
+    }
+
+    /**
+     * Loads a map file in the .properties format with the streaming {@link PropertiesMapParser}.
+     * Tiles without an entry are paths.
+     *
+     * @param file the .properties map file
+     * @return the grid holding the tile types of the map
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static TileGrid loadProperties(FileHandle file) throws IOException {
+        return PropertiesMapParser.parse(file);
+    }
+
+    /**
+     * Converts a tile code from a map file to a tile type, mapping unknown codes to {@link TileGrid#EMPTY}.
+     *
+     * @param code the code read from the map file
+     * @return the tile type
+     */
+    public static byte toTileType(int code) {
+        return code >= TileGrid.WALL && code <= TileGrid.ABILITY ? (byte) code : TileGrid.EMPTY;
+    }
+}
@@ -0,0 +1,105 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes the compiled binary map format (.mazebin).
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * int  magic    'M' 'Z' 'B' 'N'
+ * int  version
+ * int  width
+ * int  height
+ * byte tiles[width * height]   tile types, row by row starting at y = 0
+ * </pre>
+ * The tile types use the codes of {@link TileGrid}, so a file can be read with a single bulk copy
+ * straight into the tile layer of the grid, followed by one pass that checks every code.
+ */
+public class MazeBinaryFormat {
+    public static final String EXTENSION = "mazebin";
+    public static final int MAGIC = 0x4D5A424E;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * Reads a map file in the binary format. Files on disk are memory-mapped,
+     * files only available on the classpath are read into a buffer in one go.
+     *
+     * @param file the .mazebin file to read
+     * @return the tile grid described by the file
+     * @throws IOException if the file cannot be read or is not a valid map
+     */
+    public static TileGrid read(FileHandle file) throws IOException {
+        if (file.type() != Files.FileType.Classpath && file.file().isFile()) {
+            try (FileChannel channel = FileChannel.open(file.file().toPath(), StandardOpenOption.READ)) {
+                return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+        return read(ByteBuffer.wrap(file.readBytes()));
+    }
+
+    /**
+     * Reads a map in the binary format from a buffer.
+     *
+     * @param buffer the buffer positioned at the start of the header
+     * @return the tile grid described by the buffer
+     * @throws IOException if the buffer does not contain a valid map
+     */
+    public static TileGrid read(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IOException("Map file is too short to contain a header");
+        }
+        int magic = buffer.getInt();
+        if (magic != MAGIC) {
+            throw new IOException("Not a ." + EXTENSION + " file (bad magic 0x" + Integer.toHexString(magic) + ")");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported map format version " + version);
+        }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        if (width <= 0 || height <= 0 || (long) width * height > TileGrid.MAX_CELLS) {
+            throw new IOException("Invalid maze size " + width + "x" + height);
+        }
+        if (buffer.remaining() < width * height) {
+            throw new IOException("Map file is truncated, expected " + width * height + " tiles but found " + buffer.remaining());
+        }
+
+        TileGrid grid = new TileGrid(width, height);
+        byte[] tiles = grid.getTiles();
+        buffer.get(tiles);
+        // The bulk copy trusts the file, so reject any byte that is not a tile type before it reaches the game
+        for (int i = 0; i < tiles.length; i++) {
+            if (!TileGrid.isTileType(tiles[i])) {
+                throw new IOException("Invalid tile type " + tiles[i] + " at " + i % width + "," + i / width);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Writes the tile layer of a grid in the binary format.
+     *
+     * @param grid the grid to write
+     * @param file the destination file, overwritten if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(TileGrid grid, FileHandle file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(file.write(false, 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(grid.getWidth());
+            out.writeInt(grid.getHeight());
+            out.write(grid.getTiles());
+        }
+    }
+}
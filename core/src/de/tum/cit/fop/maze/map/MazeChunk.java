@@ -0,0 +1,142 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.physics.box2d.Body;
+import de.tum.cit.fop.maze.objects.GameObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fixed-size square block of the maze that is loaded and unloaded as a whole.
+ * While active, the chunk owns the objects created for its tiles.
+ */
+public class MazeChunk {
+    private final int chunkX, chunkY;
+    private final int startX, startY, endX, endY;
+    private final List<GameObject> objects = new ArrayList<>();
+    private Body wallBody;
+    private SpriteCache staticCache;
+    private int staticCacheId;
+    private boolean active = false;
+
+    /**
+     * Constructs a new MazeChunk.
+     *
+     * @param chunkX    the x-coordinate of the chunk in chunk coordinates
+     * @param chunkY    the y-coordinate of the chunk in chunk coordinates
+     * @param chunkSize the size of a chunk in tiles
+     * @param grid      the grid the chunk belongs to, used to clip the last row and column of chunks
+     */
+    public MazeChunk(int chunkX, int chunkY, int chunkSize, TileGrid grid) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.startX = chunkX * chunkSize;
+        this.startY = chunkY * chunkSize;
+        this.endX = Math.min(startX + chunkSize, grid.getWidth());
+        this.endY = Math.min(startY + chunkSize, grid.getHeight());
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    /**
+     * @return the first tile column of the chunk (inclusive)
+     */
+    public int getStartX() {
+        return startX;
+    }
+
+    /**
+     * @return the first tile row of the chunk (inclusive)
+     */
+    public int getStartY() {
+        return startY;
+    }
+
+    /**
+     * @return the last tile column of the chunk (exclusive)
+     */
+    public int getEndX() {
+        return endX;
+    }
+
+    /**
+     * @return the last tile row of the chunk (exclusive)
+     */
+    public int getEndY() {
+        return endY;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    void setActive(boolean active) {
+        this.active = active;
+    }
+
+    /**
+     * Gets the merged collision body of the walls in this chunk.
+     *
+     * @return the wall body, or null if the chunk is not loaded or has no walls
+     */
+    public Body getWallBody() {
+        return wallBody;
+    }
+
+    public void setWallBody(Body wallBody) {
+        this.wallBody = wallBody;
+    }
+
+    /**
+     * Gets the sprite cache holding the ground layer of this chunk.
+     *
+     * @return the cache, or null if the chunk is not loaded
+     */
+    public SpriteCache getStaticCache() {
+        return staticCache;
+    }
+
+    public void setStaticCache(SpriteCache staticCache) {
+        this.staticCache = staticCache;
+    }
+
+    public int getStaticCacheId() {
+        return staticCacheId;
+    }
+
+    public void setStaticCacheId(int staticCacheId) {
+        this.staticCacheId = staticCacheId;
+    }
+
+    /**
+     * Registers an object created while loading the chunk, so it can be released when the chunk unloads.
+     *
+     * @param object the object owned by the chunk
+     */
+    public void addObject(GameObject object) {
+        objects.add(object);
+    }
+
+    /**
+     * Gets the objects owned by the chunk.
+     *
+     * @return the objects created while loading the chunk
+     */
+    public List<GameObject> getObjects() {
+        return objects;
+    }
+
+    /**
+     * Forgets all objects owned by the chunk.
+     */
+    public void clearObjects() {
+        objects.clear();
+    }
+}
@@ -0,0 +1,149 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import de.tum.cit.fop.maze.Minimap;
+import de.tum.cit.fop.maze.generator.MazeGenerator;
+import de.tum.cit.fop.maze.pathfinding.Algorithm;
+
+import java.io.IOException;
+
+/**
+ * The part of a level that can be loaded without touching OpenGL or Box2D:
+ * the parsed tile grid, the wall masks, the connected regions, the pathfinder and the pixels of the minimap.
+ * It is prepared on a background thread while the loading screen is shown.
+ * Preparing also checks that the maze has an entry and an exit, and that the exits, fish and power-ups
+ * can be reached from the entry, so broken maps are reported before anything is built.
+ */
+public class PreparedLevel implements Disposable {
+    private final String mapPath;
+    private final TileGrid grid;
+    private final WallAutotiler wallAutotiler;
+    private final RegionMap regions;
+    private final Algorithm pathfinder;
+    private Pixmap minimapPixmap;
+
+    private PreparedLevel(String mapPath, TileGrid grid) throws IOException {
+        this.mapPath = mapPath;
+        this.grid = grid;
+        this.wallAutotiler = new WallAutotiler(grid);
+        this.regions = new RegionMap(grid);
+        this.pathfinder = new Algorithm(grid, regions);
+        checkReachability();
+        this.minimapPixmap = Minimap.drawTiles(grid, findEntry());
+    }
+
+    /**
+     * Reports the exits, fish and power-ups that cannot be reached from the entry.
+     * Entries and exits on a corner are ignored, the same way {@link de.tum.cit.fop.maze.MazeMap} builds the maze.
+     *
+     * @throws IOException if the maze has no entry or no exit, or if none of the exits can be reached
+     */
+    private void checkReachability() throws IOException {
+        int entry = findEntry();
+        if (entry < 0) {
+            throw new IOException(mapPath + ": no entry point defined in the maze file");
+        }
+        int width = grid.getWidth();
+        int entryX = entry % width, entryY = entry / width;
+
+        int exits = 0;
+        byte[] tiles = grid.getTiles();
+        for (int index = 0; index < tiles.length; index++) {
+            if (tiles[index] == TileGrid.EXIT && !isCorner(index % width, index / width)) exits++;
+        }
+        if (exits == 0) {
+            throw new IOException(mapPath + ": no exit point defined in the maze file");
+        }
+
+        IntArray unreachable = regions.findUnreachable(entryX, entryY, TileGrid.EXIT, TileGrid.FISH, TileGrid.HEART, TileGrid.ABILITY);
+        int unreachableExits = 0;
+        for (int i = 0; i < unreachable.size; i++) {
+            int index = unreachable.get(i);
+            int x = index % width, y = index / width;
+            byte type = grid.getTile(x, y);
+            if (type == TileGrid.EXIT && !isCorner(x, y)) unreachableExits++;
+            Gdx.app.error("PreparedLevel", mapPath + ": tile " + x + "," + y + " of type " + type + " cannot be reached from the entry");
+        }
+        if (unreachableExits == exits) {
+            throw new IOException(mapPath + ": no exit can be reached from the entry");
+        }
+    }
+
+    /**
+     * Finds the entry the same way the maze is built: the first one that is not on a corner.
+     *
+     * @return the index of the entry tile, or -1 if there is none
+     */
+    private int findEntry() {
+        int width = grid.getWidth();
+        byte[] tiles = grid.getTiles();
+        for (int index = 0; index < tiles.length; index++) {
+            if (tiles[index] == TileGrid.ENTRY && !isCorner(index % width, index / width)) return index;
+        }
+        return -1;
+    }
+
+    private boolean isCorner(int x, int y) {
+        return (x == 0 || x == grid.getWidth() - 1) && (y == 0 || y == grid.getHeight() - 1);
+    }
+
+    /**
+     * Loads and preprocesses a map file, or generates the maze if the path refers to a generated one.
+     * Safe to call from any thread.
+     *
+     * @param mapPath the path to the map file, or a path built by {@link MazeGenerator#toMapPath}
+     * @return the prepared level
+     * @throws IOException if the map file cannot be read or is malformed
+     */
+    public static PreparedLevel prepare(String mapPath) throws IOException {
+        if (MazeGenerator.isGeneratedMapPath(mapPath)) {
+            return new PreparedLevel(mapPath, MazeGenerator.fromMapPath(mapPath));
+        }
+        return new PreparedLevel(mapPath, MapLoader.load(Gdx.files.internal(mapPath)));
+    }
+
+    public String getMapPath() {
+        return mapPath;
+    }
+
+    public TileGrid getGrid() {
+        return grid;
+    }
+
+    public WallAutotiler getWallAutotiler() {
+        return wallAutotiler;
+    }
+
+    public RegionMap getRegions() {
+        return regions;
+    }
+
+    public Algorithm getPathfinder() {
+        return pathfinder;
+    }
+
+    /**
+     * Hands the pixels of the minimap over to the caller, who becomes responsible for disposing them.
+     *
+     * @return the pixels of the minimap, or null if they were already taken
+     */
+    public Pixmap takeMinimapPixmap() {
+        Pixmap pixmap = minimapPixmap;
+        minimapPixmap = null;
+        return pixmap;
+    }
+
+    /**
+     * Disposes the pixels of the minimap if they were never taken, e.g. when a level is left while loading.
+     */
+    @Override
+    public void dispose() {
+        if (minimapPixmap != null) {
+            minimapPixmap.dispose();
+            minimapPixmap = null;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Single-pass streaming parser for maps in the .properties format.
+ * <p>
+ * Every non-empty line has the form {@code x,y=type}, blanks around the separators are allowed,
+ * ':' can be used instead of '=' and lines starting with '#' or '!' are comments.
+ * The character stream is scanned once, the entries are collected as (x, y, type) triples in a growable
+ * int buffer while tracking the maze size, and then copied into the grid without creating any strings.
+ * Malformed lines are reported with their line number.
+ */
+public class PropertiesMapParser {
+    private static final int EOF = -1;
+    // Upper bound for any number in the file, large enough for every sensible maze size
+    private static final int MAX_VALUE = 1 << 24;
+
+    private final Reader reader;
+    private final String sourceName;
+    private final char[] buffer = new char[8192];
+    private int position, limit;
+    private int line = 1;
+
+    // Parsed entries as consecutive x, y, type triples
+    private final IntArray entries = new IntArray(1024);
+    private int maxX = -1, maxY = -1;
+
+    /**
+     * Constructs a new parser reading from the given character stream.
+     *
+     * @param reader     the stream to read the map from
+     * @param sourceName the name of the source, used in error messages
+     */
+    public PropertiesMapParser(Reader reader, String sourceName) {
+        this.reader = reader;
+        this.sourceName = sourceName;
+    }
+
+    /**
+     * Parses a .properties map file.
+     *
+     * @param file the map file
+     * @return the grid holding the tile types of the map
+     * @throws IOException if the file cannot be read or contains a malformed line
+     */
+    public static TileGrid parse(FileHandle file) throws IOException {
+        try (Reader reader = file.reader()) {
+            return new PropertiesMapParser(reader, file.name()).parse();
+        }
+    }
+
+    /**
+     * Parses the whole stream into a tile grid. Tiles without an entry are paths,
+     * entries with negative coordinates are ignored.
+     *
+     * @return the grid holding the tile types of the map
+     * @throws IOException if the stream cannot be read or contains a malformed line
+     */
+    public TileGrid parse() throws IOException {
+        while (true) {
+            skipBlanks();
+            int c = peek();
+            if (c == EOF) break;
+            if (isLineEnd(c)) {
+                skipLineEnd();
+                continue;
+            }
+            if (c == '#' || c == '!') {
+                skipComment();
+                continue;
+            }
+            parseEntry();
+        }
+
+        if (maxX < 0 || maxY < 0) {
+            throw new IOException(sourceName + ": map does not contain any tiles");
+        }
+
+        TileGrid grid = new TileGrid(maxX + 1, maxY + 1);
+        int[] items = entries.items;
+        for (int i = 0; i < entries.size; i += 3) {
+            int x = items[i], y = items[i + 1];
+            if (x >= 0 && y >= 0) {
+                grid.setTile(x, y, MapLoader.toTileType(items[i + 2]));
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Parses a single "x,y=type" line and appends it to the entry buffer.
+     *
+     * @throws IOException if the line is malformed or makes the maze too large
+     */
+    private void parseEntry() throws IOException {
+        int x = readInt("x coordinate");
+        skipBlanks();
+        expect(',', "',' between the coordinates");
+        skipBlanks();
+        int y = readInt("y coordinate");
+        skipBlanks();
+        int separator = read();
+        if (separator != '=' && separator != ':') {
+            throw error("expected '=' after the coordinates but found " + describe(separator));
+        }
+        skipBlanks();
+        int type = readInt("tile type");
+        skipBlanks();
+        int c = peek();
+        if (c != EOF && !isLineEnd(c)) {
+            throw error("unexpected " + describe(c) + " after the tile type");
+        }
+
+        entries.add(x, y, type);
+        if (x > maxX) maxX = x;
+        if (y > maxY) maxY = y;
+        if ((long) (maxX + 1) * (maxY + 1) > TileGrid.MAX_CELLS) {
+            throw error("maze size " + (maxX + 1) + "x" + (maxY + 1) + " is too large");
+        }
+    }
+
+    /**
+     * Reads an optionally negative decimal integer.
+     *
+     * @param what description of the number, used in error messages
+     * @return the parsed number
+     * @throws IOException if there is no number at the current position or it is too large
+     */
+    private int readInt(String what) throws IOException {
+        boolean negative = false;
+        if (peek() == '-') {
+            negative = true;
+            position++;
+        }
+        int c = peek();
+        if (c < '0' || c > '9') {
+            throw error("expected " + what + " but found " + describe(c));
+        }
+        int value = 0;
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if (value > MAX_VALUE) {
+                throw error(what + " is too large");
+            }
+            position++;
+            c = peek();
+        }
+        return negative ? -value : value;
+    }
+
+    private void expect(char expected, String what) throws IOException {
+        int c = read();
+        if (c != expected) {
+            throw error("expected " + what + " but found " + describe(c));
+        }
+    }
+
+    private void skipBlanks() throws IOException {
+        int c = peek();
+        while (c == ' ' || c == '\t' || c == '\f') {
+            position++;
+            c = peek();
+        }
+    }
+
+    private void skipComment() throws IOException {
+        int c = peek();
+        while (c != EOF && !isLineEnd(c)) {
+            position++;
+            c = peek();
+        }
+    }
+
+    /**
+     * Consumes a line break ("\n", "\r" or "\r\n") and advances the line counter.
+     */
+    private void skipLineEnd() throws IOException {
+        if (read() == '\r' && peek() == '\n') {
+            position++;
+        }
+        line++;
+    }
+
+    private static boolean isLineEnd(int c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c != EOF) position++;
+        return c;
+    }
+
+    private static String describe(int c) {
+        if (c == EOF) return "end of file";
+        if (isLineEnd(c)) return "end of line";
+        return "'" + (char) c + "'";
+    }
+
+    private IOException error(String message) {
+        return new IOException(sourceName + ":" + line + ": " + message);
+    }
+}
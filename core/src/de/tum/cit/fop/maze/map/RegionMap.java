@@ -0,0 +1,134 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Labels the connected regions of walkable tiles (see {@link TileGrid#isWalkable(byte)}), so whether two tiles are connected at all
+ * is answered in O(1) by comparing their region IDs instead of running a search that fails
+ * only after exploring everything it can reach.
+ * The IDs are stored in a flat array indexed by {@code x + y * width} like the tiles of the {@link TileGrid}.
+ * When a tile changes between wall and path, the labels are recomputed on the next query.
+ */
+public class RegionMap {
+    // Region ID of tiles that can't be walked on and of cells outside the grid
+    public static final int NO_REGION = 0;
+
+    private final TileGrid grid;
+    private final int[] regions;
+    private final IntArray stack = new IntArray();
+    private int regionCount;
+    private boolean dirty;
+
+    /**
+     * Constructs a new RegionMap and labels the regions of the grid.
+     *
+     * @param grid the grid to analyse
+     */
+    public RegionMap(TileGrid grid) {
+        this.grid = grid;
+        this.regions = new int[grid.getWidth() * grid.getHeight()];
+        label();
+    }
+
+    /**
+     * Flood-fills every region of walkable tiles with its own ID, in one linear pass over the grid.
+     */
+    private void label() {
+        byte[] tiles = grid.getTiles();
+        int width = grid.getWidth();
+        Arrays.fill(regions, NO_REGION);
+        regionCount = 0;
+
+        for (int start = 0; start < tiles.length; start++) {
+            if (!TileGrid.isWalkable(tiles[start]) || regions[start] != NO_REGION) continue;
+            int region = ++regionCount;
+            regions[start] = region;
+            stack.add(start);
+            while (stack.size > 0) {
+                int index = stack.pop();
+                int x = index % width;
+                if (x > 0) visit(tiles, index - 1, region);
+                if (x < width - 1) visit(tiles, index + 1, region);
+                if (index >= width) visit(tiles, index - width, region);
+                if (index + width < tiles.length) visit(tiles, index + width, region);
+            }
+        }
+        // Don't keep the memory of the largest region around
+        stack.clear();
+        stack.shrink();
+        dirty = false;
+    }
+
+    private void visit(byte[] tiles, int index, int region) {
+        if (TileGrid.isWalkable(tiles[index]) && regions[index] == NO_REGION) {
+            regions[index] = region;
+            stack.add(index);
+        }
+    }
+
+    /**
+     * Marks the labels as outdated after walls were added or removed. They are recomputed on the next query.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Gets the ID of the region containing a tile.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return the region ID, or {@link #NO_REGION} for tiles that can't be walked on and cells outside the grid
+     */
+    public int getRegion(int x, int y) {
+        if (dirty) label();
+        return grid.inBounds(x, y) ? regions[grid.index(x, y)] : NO_REGION;
+    }
+
+    /**
+     * Checks if there is a path between two tiles.
+     *
+     * @param fromX X coordinate of the first tile
+     * @param fromY Y coordinate of the first tile
+     * @param toX   X coordinate of the second tile
+     * @param toY   Y coordinate of the second tile
+     * @return true if both tiles are walkable and belong to the same region,
+     * false if either of them has {@link #NO_REGION}
+     */
+    public boolean isConnected(int fromX, int fromY, int toX, int toY) {
+        int region = getRegion(fromX, fromY);
+        return region != NO_REGION && region == getRegion(toX, toY);
+    }
+
+    /**
+     * Finds the tiles of the given types that cannot be reached from a starting tile.
+     * If the starting tile has {@link #NO_REGION}, nothing can be reached from it and every such tile is returned.
+     *
+     * @param fromX X coordinate of the starting tile
+     * @param fromY Y coordinate of the starting tile
+     * @param types the tile types to check
+     * @return the indices of the unreachable tiles, see {@link TileGrid#index}
+     */
+    public IntArray findUnreachable(int fromX, int fromY, byte... types) {
+        int region = getRegion(fromX, fromY);
+        byte[] tiles = grid.getTiles();
+        IntArray unreachable = new IntArray();
+        for (int index = 0; index < tiles.length; index++) {
+            if (region != NO_REGION && regions[index] == region) continue;
+            for (byte type : types) {
+                if (tiles[index] == type) {
+                    unreachable.add(index);
+                    break;
+                }
+            }
+        }
+        return unreachable;
+    }
+
+    public int getRegionCount() {
+        if (dirty) label();
+        return regionCount;
+    }
+}
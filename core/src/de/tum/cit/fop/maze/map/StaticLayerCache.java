@@ -0,0 +1,115 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.utils.Disposable;
+import de.tum.cit.fop.maze.objects.GameObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the ground layer (paths, walls, entry, exit and slow tiles) of every loaded chunk in a
+ * {@link SpriteCache}, so its vertices are uploaded once when the chunk loads instead of being sent
+ * through the SpriteBatch every frame. Drawing a chunk then takes a single draw call per texture.
+ * The caches are pooled and reused, as each one owns a vertex buffer and a shader.
+ */
+public class StaticLayerCache implements Disposable {
+    private final TileGrid grid;
+    private final int capacity;
+    private final List<SpriteCache> freeCaches = new ArrayList<>();
+    private final List<SpriteCache> allCaches = new ArrayList<>();
+
+    /**
+     * Constructs a new StaticLayerCache.
+     *
+     * @param grid      the grid whose ground layer is cached
+     * @param chunkSize the size of a chunk in tiles, a chunk holds at most one ground object per tile
+     */
+    public StaticLayerCache(TileGrid grid, int chunkSize) {
+        this.grid = grid;
+        this.capacity = chunkSize * chunkSize;
+    }
+
+    /**
+     * Uploads the ground objects of a chunk, replacing what was cached for it before.
+     * Must be called again whenever a ground object of the chunk changes.
+     *
+     * @param chunk the chunk to cache
+     */
+    public void build(MazeChunk chunk) {
+        SpriteCache cache = chunk.getStaticCache();
+        if (cache == null) {
+            cache = freeCaches.isEmpty() ? createCache() : freeCaches.remove(freeCaches.size() - 1);
+            chunk.setStaticCache(cache);
+        }
+        cache.clear();
+        cache.beginCache();
+        for (int y = chunk.getStartY(); y < chunk.getEndY(); y++) {
+            int index = grid.index(chunk.getStartX(), y);
+            for (int x = chunk.getStartX(); x < chunk.getEndX(); x++, index++) {
+                GameObject ground = grid.getGround(index);
+                if (ground != null) ground.addTo(cache);
+            }
+        }
+        chunk.setStaticCacheId(cache.endCache());
+    }
+
+    private SpriteCache createCache() {
+        SpriteCache cache = new SpriteCache(capacity, true);
+        allCaches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Returns the cache of a chunk that unloads to the pool.
+     *
+     * @param chunk the chunk being unloaded
+     */
+    public void release(MazeChunk chunk) {
+        SpriteCache cache = chunk.getStaticCache();
+        if (cache == null) return;
+        cache.clear();
+        freeCaches.add(cache);
+        chunk.setStaticCache(null);
+    }
+
+    /**
+     * Draws the cached ground layer of the given chunks that overlap the visible tile area.
+     * Must not be called between begin and end of a SpriteBatch.
+     *
+     * @param camera the camera showing the maze
+     * @param chunks the loaded chunks
+     * @param minX   the left edge of the visible area in tiles
+     * @param minY   the bottom edge of the visible area in tiles
+     * @param maxX   the right edge of the visible area in tiles (inclusive)
+     * @param maxY   the top edge of the visible area in tiles (inclusive)
+     */
+    public void render(OrthographicCamera camera, List<MazeChunk> chunks, int minX, int minY, int maxX, int maxY) {
+        // SpriteCache doesn't enable blending on its own, unlike SpriteBatch
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        for (int i = 0; i < chunks.size(); i++) {
+            MazeChunk chunk = chunks.get(i);
+            SpriteCache cache = chunk.getStaticCache();
+            if (cache == null || chunk.getEndX() <= minX || chunk.getStartX() > maxX ||
+                    chunk.getEndY() <= minY || chunk.getStartY() > maxY) continue;
+            cache.setProjectionMatrix(camera.combined);
+            cache.begin();
+            cache.draw(chunk.getStaticCacheId());
+            cache.end();
+        }
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    @Override
+    public void dispose() {
+        for (SpriteCache cache : allCaches) {
+            cache.dispose();
+        }
+        allCaches.clear();
+        freeCaches.clear();
+    }
+}
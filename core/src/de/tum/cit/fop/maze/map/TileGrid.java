@@ -0,0 +1,238 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.utils.IntMap;
+import de.tum.cit.fop.maze.objects.GameObject;
+
+import java.util.Arrays;
+
+/**
+ * Grid holding the tiles of a maze, indexed by {@code x + y * width}.
+ * The tile layer stores the tile type of every cell as a byte in a dense array, while two sparse
+ * object layers hold the ground object (path, wall, entry, exit, slow tile) and the overlay object
+ * (items and entities) placed on a cell. The object layers are maps keyed by cell index, so they only
+ * take memory for the cells that actually hold an object: the loaded chunks and the placed items,
+ * not the whole area of the maze. All lookups are O(1) and do not allocate.
+ */
+public class TileGrid {
+    // Tile types, using the same codes as the map files
+    public static final byte WALL = 0;
+    public static final byte ENTRY = 1;
+    public static final byte EXIT = 2;
+    public static final byte LASER_TRAP = 3;
+    public static final byte ENEMY = 4;
+    public static final byte FISH = 5;
+    public static final byte SLOW_TILE = 6;
+    public static final byte HEART = 7;
+    public static final byte ABILITY = 8;
+    // Cells that are not listed in the map file are plain paths
+    public static final byte PATH = 9;
+    // Cells that hold nothing at all (e.g. an entry placed on a corner, which gets ignored)
+    public static final byte EMPTY = -1;
+    // Largest number of cells a grid can hold, as the tile layer is a single array
+    public static final long MAX_CELLS = Integer.MAX_VALUE;
+
+    private final int width, height;
+    private final byte[] tiles;
+    private final IntMap<GameObject> ground = new IntMap<>();
+    private final IntMap<GameObject> overlay = new IntMap<>();
+
+    /**
+     * Constructs a new TileGrid where every cell is a path.
+     *
+     * @param width  the width of the grid in tiles
+     * @param height the height of the grid in tiles
+     */
+    public TileGrid(int width, int height) {
+        if (width <= 0 || height <= 0 || (long) width * height > MAX_CELLS) {
+            throw new IllegalArgumentException("Invalid grid size " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.tiles = new byte[width * height];
+        Arrays.fill(tiles, PATH);
+    }
+
+    /**
+     * Checks if a byte is one of the tile type codes above.
+     *
+     * @param type the byte to check
+     * @return true if it is a known tile type
+     */
+    public static boolean isTileType(byte type) {
+        return type == EMPTY || (type >= WALL && type <= PATH);
+    }
+
+    /**
+     * Checks if a tile type can be walked on. This is the single definition of walkability used by
+     * the region labelling, the pathfinding and the maze: every known type except walls and empty cells.
+     *
+     * @param type the tile type to check
+     * @return true if the tile can be walked on
+     */
+    public static boolean isWalkable(byte type) {
+        // The codes between WALL and PATH are all floor tiles, EMPTY and unknown codes lie outside
+        return type > WALL && type <= PATH;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Checks if the given coordinates are inside the grid.
+     *
+     * @param x X coordinate to check
+     * @param y Y coordinate to check
+     * @return true if the coordinates are inside the grid
+     */
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Gets the flat array index of a cell.
+     *
+     * @param x X coordinate of the cell
+     * @param y Y coordinate of the cell
+     * @return the index of the cell in the flat arrays
+     */
+    public int index(int x, int y) {
+        return x + y * width;
+    }
+
+    /**
+     * Gets the tile type at the given coordinates.
+     *
+     * @param x X coordinate of the cell
+     * @param y Y coordinate of the cell
+     * @return the tile type, or {@link #EMPTY} if the coordinates are outside the grid
+     */
+    public byte getTile(int x, int y) {
+        return inBounds(x, y) ? tiles[x + y * width] : EMPTY;
+    }
+
+    public void setTile(int x, int y, byte type) {
+        tiles[index(x, y)] = type;
+    }
+
+    /**
+     * Gives direct access to the tile type layer, e.g. for bulk loading.
+     *
+     * @return the backing array of the tile layer
+     */
+    public byte[] getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Checks if the cell at the given coordinates is a wall.
+     *
+     * @param x X coordinate to check
+     * @param y Y coordinate to check
+     * @return true if the cell is a wall, false if it is not or lies outside the grid
+     */
+    public boolean isWall(int x, int y) {
+        return inBounds(x, y) && tiles[x + y * width] == WALL;
+    }
+
+    /**
+     * Checks if the cell at the given coordinates can be walked on, see {@link #isWalkable(byte)}.
+     *
+     * @param x X coordinate to check
+     * @param y Y coordinate to check
+     * @return true if the cell is walkable, false if it is not or lies outside the grid
+     */
+    public boolean isWalkable(int x, int y) {
+        return inBounds(x, y) && isWalkable(tiles[x + y * width]);
+    }
+
+    /**
+     * Checks if the cell at the given coordinates is an exit or an entrance.
+     *
+     * @param x X coordinate to check
+     * @param y Y coordinate to check
+     * @return true if the cell is an exit or an entrance
+     */
+    public boolean isExitOrEntrance(int x, int y) {
+        if (!inBounds(x, y)) return false;
+        byte type = tiles[x + y * width];
+        return type == ENTRY || type == EXIT;
+    }
+
+    public GameObject getGround(int x, int y) {
+        return inBounds(x, y) ? ground.get(x + y * width) : null;
+    }
+
+    /**
+     * Gets the ground object of a cell by its index, e.g. while walking the cells of a row.
+     *
+     * @param index the index of the cell, see {@link #index}
+     * @return the ground object, or null if the cell has none
+     */
+    public GameObject getGround(int index) {
+        return ground.get(index);
+    }
+
+    /**
+     * Places a ground object on a cell, or clears the cell if the object is null.
+     *
+     * @param x      X coordinate of the cell
+     * @param y      Y coordinate of the cell
+     * @param object the object to place, or null
+     */
+    public void setGround(int x, int y, GameObject object) {
+        set(ground, index(x, y), object);
+    }
+
+    public GameObject getOverlay(int x, int y) {
+        return inBounds(x, y) ? overlay.get(x + y * width) : null;
+    }
+
+    /**
+     * Gets the overlay object of a cell by its index, e.g. while walking the cells of a row.
+     *
+     * @param index the index of the cell, see {@link #index}
+     * @return the overlay object, or null if the cell has none
+     */
+    public GameObject getOverlay(int index) {
+        return overlay.get(index);
+    }
+
+    /**
+     * Places an overlay object on a cell, or clears the cell if the object is null.
+     *
+     * @param x      X coordinate of the cell
+     * @param y      Y coordinate of the cell
+     * @param object the object to place, or null
+     */
+    public void setOverlay(int x, int y, GameObject object) {
+        set(overlay, index(x, y), object);
+    }
+
+    private static void set(IntMap<GameObject> layer, int index, GameObject object) {
+        if (object == null) {
+            layer.remove(index);
+        } else {
+            layer.put(index, object);
+        }
+    }
+
+    /**
+     * Removes an object from the overlay layer if it is still placed on its cell.
+     *
+     * @param object the object to remove
+     * @return true if the object was removed
+     */
+    public boolean removeOverlay(GameObject object) {
+        int x = object.getX(), y = object.getY();
+        if (!inBounds(x, y)) return false;
+        int index = x + y * width;
+        if (overlay.get(index) != object) return false;
+        overlay.remove(index);
+        return true;
+    }
+}
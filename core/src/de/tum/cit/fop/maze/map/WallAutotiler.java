@@ -0,0 +1,134 @@
+package de.tum.cit.fop.maze.map;
+
+import de.tum.cit.fop.maze.MazeMap.WallType;
+
+/**
+ * Picks the texture variant of every wall tile from a 4-bit mask of its wall neighbours.
+ * The masks are computed in a single linear pass over the tile layer and stored in a flat array,
+ * the wall type of each mask comes from a precomputed lookup table.
+ * When a cell changes, only the masks of the cell and its four neighbours are recomputed.
+ */
+public class WallAutotiler {
+    public static final int UP = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 4;
+    public static final int RIGHT = 8;
+
+    private static final WallType[] TYPE_BY_MASK = new WallType[16];
+
+    static {
+        for (int mask = 0; mask < TYPE_BY_MASK.length; mask++) {
+            TYPE_BY_MASK[mask] = computeWallType(mask);
+        }
+    }
+
+    private final TileGrid grid;
+    private final byte[] masks;
+
+    /**
+     * Constructs a new WallAutotiler and computes the masks of all wall tiles of the grid.
+     *
+     * @param grid the grid holding the wall tiles
+     */
+    public WallAutotiler(TileGrid grid) {
+        this.grid = grid;
+        this.masks = new byte[grid.getWidth() * grid.getHeight()];
+        computeAll();
+    }
+
+    /**
+     * Computes the neighbour masks of every cell in one pass over the tile layer.
+     */
+    public void computeAll() {
+        byte[] tiles = grid.getTiles();
+        int width = grid.getWidth(), height = grid.getHeight();
+        for (int y = 0, index = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, index++) {
+                if (tiles[index] != TileGrid.WALL) {
+                    masks[index] = 0;
+                    continue;
+                }
+                int mask = 0;
+                if (y + 1 < height && tiles[index + width] == TileGrid.WALL) mask |= UP;
+                if (y > 0 && tiles[index - width] == TileGrid.WALL) mask |= DOWN;
+                if (x > 0 && tiles[index - 1] == TileGrid.WALL) mask |= LEFT;
+                if (x + 1 < width && tiles[index + 1] == TileGrid.WALL) mask |= RIGHT;
+                masks[index] = (byte) mask;
+            }
+        }
+    }
+
+    /**
+     * Recomputes the masks affected by a change of the given cell, i.e. the cell itself and its four neighbours.
+     *
+     * @param x X coordinate of the changed cell
+     * @param y Y coordinate of the changed cell
+     */
+    public void update(int x, int y) {
+        updateCell(x, y);
+        updateCell(x, y + 1);
+        updateCell(x, y - 1);
+        updateCell(x - 1, y);
+        updateCell(x + 1, y);
+    }
+
+    private void updateCell(int x, int y) {
+        if (!grid.inBounds(x, y)) return;
+        int mask = 0;
+        if (grid.isWall(x, y)) {
+            if (grid.isWall(x, y + 1)) mask |= UP;
+            if (grid.isWall(x, y - 1)) mask |= DOWN;
+            if (grid.isWall(x - 1, y)) mask |= LEFT;
+            if (grid.isWall(x + 1, y)) mask |= RIGHT;
+        }
+        masks[grid.index(x, y)] = (byte) mask;
+    }
+
+    /**
+     * Gets the neighbour mask of a cell.
+     *
+     * @param x X coordinate of the cell
+     * @param y Y coordinate of the cell
+     * @return combination of {@link #UP}, {@link #DOWN}, {@link #LEFT} and {@link #RIGHT}
+     */
+    public int getMask(int x, int y) {
+        return masks[grid.index(x, y)];
+    }
+
+    /**
+     * Gets the wall type for a neighbour mask from the lookup table.
+     *
+     * @param mask the neighbour mask
+     * @return the wall type used for walls with these neighbours
+     */
+    public static WallType getWallType(int mask) {
+        return TYPE_BY_MASK[mask];
+    }
+
+    /**
+     * Determines the wall type for a neighbour mask, used to fill the lookup table.
+     * Walls with three or four neighbours, or none at all, are drawn horizontally.
+     *
+     * @param mask the neighbour mask
+     * @return WallType enum representing the wall configuration
+     */
+    private static WallType computeWallType(int mask) {
+        boolean isUp = (mask & UP) != 0;
+        boolean isDown = (mask & DOWN) != 0;
+        boolean isLeft = (mask & LEFT) != 0;
+        boolean isRight = (mask & RIGHT) != 0;
+
+        return switch (Integer.bitCount(mask)) {
+            case 1 -> (isUp || isDown) ? WallType.VERTICAL : WallType.HORIZONTAL;
+            case 2 -> {
+                if (isRight && isLeft) yield WallType.HORIZONTAL;
+                if (isUp && isDown) yield WallType.VERTICAL;
+                if (isUp && isRight) yield WallType.CORNER_LD;
+                if (isUp) yield WallType.CORNER_RD;
+                if (isRight) yield WallType.CORNER_LU;
+                yield WallType.CORNER_RU;
+            }
+            default -> WallType.HORIZONTAL;
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package de.tum.cit.fop.maze.map;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
+
+import java.util.Arrays;
+
+/**
+ * Builds the wall collision geometry of a chunk by merging connected wall tiles into maximal rectangles
+ * (greedy meshing). A whole chunk gets a single static body with one box fixture per rectangle,
+ * instead of one body per wall tile. The covered area is exactly the same as with one box per tile.
+ */
+public class WallColliderBuilder {
+    // Collides with the player and enemies and blocks light
+    private static final short WALL_MASK = CollisionCategory.PLAYER | CollisionCategory.ENEMY | CollisionCategory.LIGHT;
+
+    private final TileGrid grid;
+    // Scratch buffer marking the wall tiles of the current chunk that are already covered by a rectangle
+    private final boolean[] covered;
+    private final Vector2 center = new Vector2();
+
+    /**
+     * Constructs a new WallColliderBuilder.
+     *
+     * @param grid      the grid holding the wall tiles
+     * @param chunkSize the maximum size of the areas passed to {@link #build}
+     */
+    public WallColliderBuilder(TileGrid grid, int chunkSize) {
+        this.grid = grid;
+        this.covered = new boolean[chunkSize * chunkSize];
+    }
+
+    /**
+     * Creates the collision body for the walls of a chunk.
+     *
+     * @param world the Box2D world to create the body in
+     * @param chunk the chunk whose walls need collision
+     * @return the created body, or null if the chunk contains no walls
+     */
+    public Body build(World world, MazeChunk chunk) {
+        int startX = chunk.getStartX(), startY = chunk.getStartY();
+        int width = chunk.getEndX() - startX, height = chunk.getEndY() - startY;
+        Arrays.fill(covered, 0, width * height, false);
+
+        Body body = null;
+        PolygonShape shape = null;
+        FixtureDef fixtureDef = null;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!isFreeWall(x, y, width, startX, startY)) continue;
+
+                // Grow the rectangle to the right as far as possible
+                int rectWidth = 1;
+                while (x + rectWidth < width && isFreeWall(x + rectWidth, y, width, startX, startY)) {
+                    rectWidth++;
+                }
+                // Then grow it upwards while the whole next row is made of free wall tiles
+                int rectHeight = 1;
+                while (y + rectHeight < height && isFreeRow(x, y + rectHeight, rectWidth, width, startX, startY)) {
+                    rectHeight++;
+                }
+                for (int dy = 0; dy < rectHeight; dy++) {
+                    Arrays.fill(covered, x + (y + dy) * width, x + rectWidth + (y + dy) * width, true);
+                }
+
+                if (body == null) {
+                    BodyDef bodyDef = new BodyDef();
+                    bodyDef.type = BodyDef.BodyType.StaticBody;
+                    bodyDef.position.set(startX, startY);
+                    body = world.createBody(bodyDef);
+                    body.setUserData("Wall chunk " + chunk.getChunkX() + "," + chunk.getChunkY());
+
+                    shape = new PolygonShape();
+                    fixtureDef = new FixtureDef();
+                    fixtureDef.shape = shape;
+                    fixtureDef.density = 0.0f;
+                    fixtureDef.friction = 0.0f;
+                    fixtureDef.filter.categoryBits = CollisionCategory.WALL;
+                    fixtureDef.filter.maskBits = WALL_MASK;
+                }
+                center.set(x + rectWidth / 2f, y + rectHeight / 2f);
+                shape.setAsBox(rectWidth / 2f, rectHeight / 2f, center, 0);
+                body.createFixture(fixtureDef);
+            }
+        }
+
+        if (shape != null) {
+            shape.dispose();
+        }
+        return body;
+    }
+
+    private boolean isFreeWall(int x, int y, int width, int startX, int startY) {
+        return !covered[x + y * width] && grid.isWall(startX + x, startY + y);
+    }
+
+    private boolean isFreeRow(int x, int y, int rectWidth, int width, int startX, int startY) {
+        for (int i = 0; i < rectWidth; i++) {
+            if (!isFreeWall(x + i, y, width, startX, startY)) return false;
+        }
+        return true;
+    }
+}
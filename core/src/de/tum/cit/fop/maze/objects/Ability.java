@@ -1,51 +1,61 @@
 package de.tum.cit.fop.maze.objects;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.*;
 import de.tum.cit.fop.maze.MazeMap;
+import de.tum.cit.fop.maze.assets.GameAssets;
+import de.tum.cit.fop.maze.ecs.components.PickupComponent;
+import de.tum.cit.fop.maze.ecs.components.TileSpriteComponent;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
+import de.tum.cit.fop.maze.render.AnimationClock;
+import de.tum.cit.fop.maze.render.RenderLayer;
 
 /**
  * Represents an ability object in the maze game.
  * This object can be collected by the player and has a rotating animation.
  */
 public class Ability extends GameObject {
-    private Animation<TextureRegion> rotatingAnimation;
-    private float stateTime;
     private boolean collected = false;
     private Body body;
 
     /**
      * Constructs an Ability object at the specified coordinates in the given world.
      *
-     * @param x     the x-coordinate of the ability
-     * @param y     the y-coordinate of the ability
-     * @param world the Box2D world where the ability exists
+     * @param x      the x-coordinate of the ability
+     * @param y      the y-coordinate of the ability
+     * @param world  the Box2D world where the ability exists
+     * @param assets the shared game assets
      */
-    public Ability(int x, int y, World world) {
-        super(x, y, 10, 10, new TextureAtlas("world.atlas").findRegion("objects").split(MazeMap.TILE_SIZE, MazeMap.TILE_SIZE)[4][0]);
-        sprite.setPosition(x * MazeMap.TILE_SIZE + 3, y * MazeMap.TILE_SIZE + 4);
-        rotatingAnimation = loadAnimation();
-        rotatingAnimation.setPlayMode(Animation.PlayMode.LOOP);
-        stateTime = 0f;
+    public Ability(int x, int y, World world, GameAssets assets) {
+        super(x, y, 10, 10);
         createBody(world);
+        // Shared by all instances and played by the clock of the level, offset by the phase of this one.
+        // There is no sprite per instance, the current frame is drawn at the tile of the object
+        Animation<TextureRegion> rotatingAnimation = assets.getAnimation("ability", () -> loadAnimation(assets));
+        float phase = AnimationClock.getPhase(x, y, rotatingAnimation.getAnimationDuration());
+        entity = new Entity();
+        entity.add(new PickupComponent(PickupComponent.Kind.ABILITY, this));
+        entity.add(new TileSpriteComponent(RenderLayer.ITEMS, x, y, x * MazeMap.TILE_SIZE + 3, y * MazeMap.TILE_SIZE + 4,
+                objectSizeWidth, objectSizeHeight, rotatingAnimation, phase));
     }
 
     /**
      * Loads the rotating animation for the ability.
      *
+     * @param assets the shared game assets
      * @return the animation object
      */
-    private Animation<TextureRegion> loadAnimation() {
-        TextureRegion[][] frames = new TextureAtlas("world.atlas").findRegion("objects").split(MazeMap.TILE_SIZE, MazeMap.TILE_SIZE);
+    private static Animation<TextureRegion> loadAnimation(GameAssets assets) {
+        TextureRegion[][] frames = assets.getTiles("objects", MazeMap.TILE_SIZE, MazeMap.TILE_SIZE);
         TextureRegion[] frames1D = new TextureRegion[4];
         for (int i = 0; i < 4; i++) {
             frames1D[i] = frames[4][i];
         }
-        return new Animation<>(0.1f, frames1D);
+        Animation<TextureRegion> animation = new Animation<>(0.1f, frames1D);
+        animation.setPlayMode(Animation.PlayMode.LOOP);
+        return animation;
     }
 
     /**
@@ -65,8 +75,8 @@ private void createBody(World world) {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.isSensor = true;
-        fixtureDef.filter.categoryBits = 0x0011; // New category for ability
-        fixtureDef.filter.maskBits = 0x0001;     // Collide with player
+        fixtureDef.filter.categoryBits = CollisionCategory.ABILITY;
+        fixtureDef.filter.maskBits = CollisionCategory.PLAYER;
 
         body.createFixture(fixtureDef);
         body.setUserData(this);
@@ -83,16 +93,4 @@ public void collect() {
             body = null;
         }
     }
-
-    /**
-     * Renders the ability with its rotating animation.
-     *
-     * @param batch the SpriteBatch used for drawing
-     */
-    @Override
-    public void render(SpriteBatch batch) {
-        stateTime += Gdx.graphics.getDeltaTime();
-        sprite.setRegion(rotatingAnimation.getKeyFrame(stateTime));
-        super.render(batch);
-    }
 }
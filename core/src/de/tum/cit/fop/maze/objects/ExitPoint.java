@@ -6,6 +6,7 @@
 import de.tum.cit.fop.maze.MazeMap;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
 
 /**
  * Represents the exit point in the maze game.
@@ -52,8 +53,8 @@ private void createBody(World world, int x, int y, int tileSize) {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.density = 0.0f;
-        fixtureDef.filter.categoryBits = 0x0004; // Exit category
-        fixtureDef.filter.maskBits = 0x0001;     // Collide with player
+        fixtureDef.filter.categoryBits = CollisionCategory.EXIT;
+        fixtureDef.filter.maskBits = CollisionCategory.PLAYER; // Blocks the player until the exit opens
         body.createFixture(fixtureDef);
 
         shape.dispose();
@@ -1,8 +1,12 @@
 package de.tum.cit.fop.maze.objects;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.physics.box2d.*;
+import de.tum.cit.fop.maze.assets.GameAssets;
+import de.tum.cit.fop.maze.ecs.components.PickupComponent;
+import de.tum.cit.fop.maze.ecs.components.TileSpriteComponent;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
+import de.tum.cit.fop.maze.render.RenderLayer;
 
 /**
  * Represents a Fish object in the maze game.
@@ -14,15 +18,19 @@ public class Fish extends GameObject {
     /**
      * Constructs a new Fish object.
      *
-     * @param x     the x-coordinate in tile coordinates
-     * @param y     the y-coordinate in tile coordinates
-     * @param world the Box2D world in which the fish exists
+     * @param x      the x-coordinate in tile coordinates
+     * @param y      the y-coordinate in tile coordinates
+     * @param world  the Box2D world in which the fish exists
+     * @param assets the shared game assets
      */
-    public Fish(int x, int y, World world) {
-        super(x, y, 10, 10, new TextureRegion(new Texture("fish.png"), 0, 0, 16, 16));
-        // Fish is 10x10 pixels, so we need to adjust the position by (16-10)/2 = 3
-        sprite.setPosition(x * TILE_SIZE + 3, y * TILE_SIZE + 3);
+    public Fish(int x, int y, World world, GameAssets assets) {
+        super(x, y, 10, 10);
         createBody(world);
+        entity = new Entity();
+        entity.add(new PickupComponent(PickupComponent.Kind.FISH, this));
+        // Fish is 10x10 pixels, so we need to adjust the position by (16-10)/2 = 3
+        entity.add(new TileSpriteComponent(RenderLayer.ITEMS, x, y, x * TILE_SIZE + 3, y * TILE_SIZE + 3,
+                objectSizeWidth, objectSizeHeight, assets.getRegion("fish", 0, 0, 16, 16)));
     }
 
     /**
@@ -42,8 +50,8 @@ private void createBody(World world) {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.isSensor = true;
-        fixtureDef.filter.categoryBits = 0x0004;
-        fixtureDef.filter.maskBits = 0x0001;
+        fixtureDef.filter.categoryBits = CollisionCategory.FISH;
+        fixtureDef.filter.maskBits = CollisionCategory.PLAYER;
 
         body.createFixture(fixtureDef);
         body.setUserData(this);
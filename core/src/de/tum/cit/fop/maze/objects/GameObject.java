@@ -1,7 +1,8 @@
 package de.tum.cit.fop.maze.objects;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -13,6 +14,8 @@ public abstract class GameObject {
     protected int objectSizeWidth, objectSizeHeight;
     protected TextureRegion texture;
     protected Sprite sprite;
+    // Components of the object for the systems of the maze's engine, null for objects no system works on
+    protected Entity entity;
 
     /**
      * Constructs a new GameObject.
@@ -35,18 +38,43 @@ public GameObject(int x, int y, int objectSizeWidth, int objectSizeHeight, Textu
     }
 
     /**
-     * Renders the game object using the provided SpriteBatch.
+     * Constructs a new GameObject without a sprite of its own, for items and traps that are drawn
+     * through the tile sprite component of their entity.
      *
-     * @param batch the SpriteBatch used for rendering
+     * @param x                the x-coordinate in tile coordinates
+     * @param y                the y-coordinate in tile coordinates
+     * @param objectSizeWidth  the width of the object in pixels
+     * @param objectSizeHeight the height of the object in pixels
+     */
+    protected GameObject(int x, int y, int objectSizeWidth, int objectSizeHeight) {
+        this.x = x;
+        this.y = y;
+        this.objectSizeWidth = objectSizeWidth;
+        this.objectSizeHeight = objectSizeHeight;
+    }
+
+    /**
+     * Adds the game object to a sprite cache, for objects whose look never changes.
+     *
+     * @param cache the cache being built
+     */
+    public void addTo(SpriteCache cache) {
+        cache.add(sprite);
+    }
+
+    /**
+     * Gets the entity holding the components of the game object.
+     *
+     * @return the entity, or null if no system works on the object
      */
-    public void render(SpriteBatch batch) {
-        sprite.draw(batch);
+    public Entity getEntity() {
+        return entity;
     }
 
     /**
      * Gets the texture region of the game object.
      *
-     * @return the texture region
+     * @return the texture region, or null for objects without a sprite of their own
      */
     public TextureRegion getTexture() {
         return texture;
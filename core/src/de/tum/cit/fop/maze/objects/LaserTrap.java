@@ -1,14 +1,21 @@
 package de.tum.cit.fop.maze.objects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.*;
+import de.tum.cit.fop.maze.assets.GameAssets;
+import de.tum.cit.fop.maze.ecs.components.TileSpriteComponent;
+import de.tum.cit.fop.maze.ecs.components.TrapAnimationComponent;
+import de.tum.cit.fop.maze.ecs.components.TrapTimerComponent;
+import de.tum.cit.fop.maze.ecs.components.TrapTimerComponent.State;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
+import de.tum.cit.fop.maze.render.RenderLayer;
 
 /**
  * Represents a LaserTrap object in the maze game.
  * The LaserTrap object can activate and deactivate, becoming dangerous when active.
+ * Its cycle is run by the {@link de.tum.cit.fop.maze.ecs.systems.TrapTimerSystem}.
  */
 public class LaserTrap extends GameObject {
     private static final float ANIMATION_SPEED = 0.1f;
@@ -16,69 +23,59 @@ public class LaserTrap extends GameObject {
     private static final int ACTIVE_FRAMES = 8;
     private static final int DEACTIVATING_FRAMES = 1;
 
-    private Animation<TextureRegion> activatingAnimation;
-    private Animation<TextureRegion> activeAnimation;
-    private Animation<TextureRegion> deactivatingAnimation;
-
-    private float stateTime;
-    private boolean isActive = false;
-    private boolean isActivating = false;
-    private boolean isDeactivating = false;
-    private boolean wasDangerous = false;
-    private boolean previousDangerous = false;
-
-    private long activeDuration = 5000;
-    private long inactiveDuration = 3000;
-
-    private long elapsedTimeActive = 0;
-    private long elapsedTimeInactive = 0;
-    private long lastUpdateTime = 0;
-
-    private boolean isPaused = false;
+    private final TrapTimerComponent timer;
     private Body body;
 
     /**
      * Constructs a new LaserTrap object.
      *
-     * @param x     the x-coordinate in tile coordinates
-     * @param y     the y-coordinate in tile coordinates
-     * @param world the Box2D world in which the laser trap exists
+     * @param x      the x-coordinate in tile coordinates
+     * @param y      the y-coordinate in tile coordinates
+     * @param world  the Box2D world in which the laser trap exists
+     * @param assets the shared game assets
      */
-    public LaserTrap(int x, int y, World world) {
-        super(x, y, 8, 16, new TextureRegion(new Texture("laser.png"), 32, 0, 32, 64));
-        sprite.setPosition(x * TILE_SIZE + 3, y * TILE_SIZE);
+    public LaserTrap(int x, int y, World world, GameAssets assets) {
+        super(x, y, 8, 16);
         createBody(world);
-        loadAnimations();
-        stateTime = 0f;
-        activate();
+        TrapAnimationComponent animations = loadAnimations(assets);
+        timer = new TrapTimerComponent(animations.activating.getAnimationDuration(), animations.deactivating.getAnimationDuration());
+        entity = new Entity();
+        entity.add(timer);
+        entity.add(animations);
+        // The frame is picked by the TrapAnimationSystem while the trap is visible
+        entity.add(new TileSpriteComponent(RenderLayer.TRAPS, x, y, x * TILE_SIZE + 3, y * TILE_SIZE,
+                objectSizeWidth, objectSizeHeight, animations.activating.getKeyFrame(0)));
     }
 
     /**
-     * Loads the animations for the laser trap.
+     * Gets the animations for the laser trap, which are shared by all laser traps.
+     *
+     * @param assets the shared game assets
+     * @return the animations of the states of the cycle
      */
-    private void loadAnimations() {
-        TextureRegion[][] frames = TextureRegion.split(new Texture("laser.png"), 32, 64);
-        TextureRegion[] activatingFrames = new TextureRegion[ACTIVATING_FRAMES];
-        TextureRegion[] activeFrames = new TextureRegion[ACTIVE_FRAMES];
-        TextureRegion[] deactivatingFrames = new TextureRegion[DEACTIVATING_FRAMES];
-        TextureRegion[] allFrames = new TextureRegion[ACTIVATING_FRAMES + ACTIVE_FRAMES + DEACTIVATING_FRAMES];
-
-        for (int i = 0; i < ACTIVATING_FRAMES + ACTIVE_FRAMES + DEACTIVATING_FRAMES; i++) {
-            allFrames[i] = frames[0][i * 3 + 1];
-        }
-        for (int i = 0; i < ACTIVATING_FRAMES; i++) {
-            activatingFrames[i] = allFrames[i];
-        }
-        for (int i = 0; i < ACTIVE_FRAMES; i++) {
-            activeFrames[i] = allFrames[i + ACTIVATING_FRAMES];
-        }
-        for (int i = 0; i < DEACTIVATING_FRAMES; i++) {
-            deactivatingFrames[i] = allFrames[i + ACTIVATING_FRAMES + ACTIVE_FRAMES];
-        }
+    private static TrapAnimationComponent loadAnimations(GameAssets assets) {
+        return new TrapAnimationComponent(
+                assets.getAnimation("laser.activating", () -> createAnimation(assets, 0, ACTIVATING_FRAMES)),
+                assets.getAnimation("laser.active", () -> createAnimation(assets, ACTIVATING_FRAMES, ACTIVE_FRAMES)),
+                assets.getAnimation("laser.deactivating",
+                        () -> createAnimation(assets, ACTIVATING_FRAMES + ACTIVE_FRAMES, DEACTIVATING_FRAMES)));
+    }
 
-        activatingAnimation = new Animation<>(ANIMATION_SPEED, activatingFrames);
-        activeAnimation = new Animation<>(ANIMATION_SPEED, activeFrames);
-        deactivatingAnimation = new Animation<>(ANIMATION_SPEED, deactivatingFrames);
+    /**
+     * Creates an animation from a range of the laser frames. Only every third frame of the sheet is used.
+     *
+     * @param assets the shared game assets
+     * @param first  the index of the first frame
+     * @param count  the number of frames
+     * @return the animation
+     */
+    private static Animation<TextureRegion> createAnimation(GameAssets assets, int first, int count) {
+        TextureRegion[][] frames = assets.getTiles("laser", 32, 64);
+        TextureRegion[] animationFrames = new TextureRegion[count];
+        for (int i = 0; i < count; i++) {
+            animationFrames[i] = frames[0][(first + i) * 3 + 1];
+        }
+        return new Animation<>(ANIMATION_SPEED, animationFrames);
     }
 
     /**
@@ -98,120 +95,40 @@ private void createBody(World world) {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.isSensor = true;
-        fixtureDef.filter.categoryBits = 0x0002;
-        fixtureDef.filter.maskBits = 0x0001;
+        fixtureDef.filter.categoryBits = CollisionCategory.LASER_TRAP;
+        fixtureDef.filter.maskBits = CollisionCategory.PLAYER;
 
         body.createFixture(fixtureDef);
         body.setUserData(this);
         shape.dispose();
     }
 
-    /**
-     * Updates the state of the laser trap.
-     *
-     * @param deltaTime the time elapsed since the last update
-     */
-    public void update(float deltaTime) {
-        if (isPaused) {
-            lastUpdateTime = System.currentTimeMillis();
-            return;
-        }
-
-        // Save the previous danger state before processing updates
-        previousDangerous = isDangerous();
-
-        stateTime += deltaTime;
-        long currentTime = System.currentTimeMillis();
-        long elapsed = currentTime - lastUpdateTime;
-        lastUpdateTime = currentTime;
-
-        // State machine logic
-        if (isActive) {
-            elapsedTimeActive += elapsed;
-            if (elapsedTimeActive >= activeDuration) {
-                deactivate();
-            }
-        } else {
-            elapsedTimeInactive += elapsed;
-            if (elapsedTimeInactive >= inactiveDuration) {
-                activate();
-            }
-        }
-
-        // Update danger state tracking for the next frame
-        wasDangerous = isDangerous();
-    }
-
-    /**
-     * Renders the laser trap using the provided SpriteBatch.
-     *
-     * @param batch the SpriteBatch used for rendering
-     */
-    @Override
-    public void render(SpriteBatch batch) {
-        if (isActivating) {
-            sprite.setRegion(activatingAnimation.getKeyFrame(stateTime, false));
-            if (activatingAnimation.isAnimationFinished(stateTime)) {
-                isActivating = false;
-                isActive = true;
-                stateTime = 0;
-                elapsedTimeActive = 0;
-            }
-        } else if (isActive) {
-            sprite.setRegion(activeAnimation.getKeyFrame(stateTime, true));
-        } else if (isDeactivating) {
-            sprite.setRegion(deactivatingAnimation.getKeyFrame(stateTime, false));
-            if (deactivatingAnimation.isAnimationFinished(stateTime)) {
-                isDeactivating = false;
-                stateTime = 0;
-                elapsedTimeInactive = 0;
-            }
-        } else {
-            sprite.setRegion(activatingAnimation.getKeyFrame(0, true));
-        }
-
-        sprite.draw(batch);
-    }
-
     /**
      * Activates the laser trap.
      */
     public void activate() {
-        isActivating = true;
-        isDeactivating = false;
-        isActive = false;
-        stateTime = 0;
-        elapsedTimeInactive = 0;
-        lastUpdateTime = System.currentTimeMillis();
+        timer.enter(State.ACTIVATING);
     }
 
     /**
      * Deactivates the laser trap.
      */
     public void deactivate() {
-        isDeactivating = true;
-        isActivating = false;
-        isActive = false;
-        stateTime = 0;
-        elapsedTimeActive = 0;
-        lastUpdateTime = System.currentTimeMillis();
+        timer.enter(State.DEACTIVATING);
     }
 
     /**
      * Pauses the timer for the laser trap.
      */
     public void pauseTimer() {
-        isPaused = true;
+        timer.paused = true;
     }
 
     /**
      * Resumes the timer for the laser trap.
      */
     public void resumeTimer() {
-        if (isPaused) {
-            isPaused = false;
-            lastUpdateTime = System.currentTimeMillis();
-        }
+        timer.paused = false;
     }
 
     /**
@@ -220,7 +137,7 @@ public void resumeTimer() {
      * @return true if the laser trap is dangerous, false otherwise
      */
     public boolean isDangerous() {
-        return isActive || isActivating || isDeactivating;
+        return timer.isDangerous();
     }
 
     /**
@@ -229,6 +146,6 @@ public boolean isDangerous() {
      * @return true if the laser trap became dangerous, false otherwise
      */
     public boolean becameDangerous() {
-        return isDangerous() && !previousDangerous;
+        return timer.isDangerous() && !timer.previousDangerous;
     }
 }
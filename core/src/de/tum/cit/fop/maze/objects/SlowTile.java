@@ -1,8 +1,9 @@
 package de.tum.cit.fop.maze.objects;
 
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.physics.box2d.*;
 import de.tum.cit.fop.maze.MazeMap;
+import de.tum.cit.fop.maze.assets.GameAssets;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
 
 /**
  * Represents a SlowTile object in the maze game.
@@ -14,12 +15,13 @@ public class SlowTile extends GameObject {
     /**
      * Constructs a new SlowTile object.
      *
-     * @param x     the x-coordinate in tile coordinates
-     * @param y     the y-coordinate in tile coordinates
-     * @param world the Box2D world the slow tile belongs to
+     * @param x      the x-coordinate in tile coordinates
+     * @param y      the y-coordinate in tile coordinates
+     * @param world  the Box2D world the slow tile belongs to
+     * @param assets the shared game assets
      */
-    public SlowTile(int x, int y, World world) {
-        super(x, y, MazeMap.TILE_SIZE, MazeMap.TILE_SIZE, new TextureAtlas("world.atlas").findRegion("basictiles").split(MazeMap.TILE_SIZE, MazeMap.TILE_SIZE)[9][2]);
+    public SlowTile(int x, int y, World world, GameAssets assets) {
+        super(x, y, MazeMap.TILE_SIZE, MazeMap.TILE_SIZE, assets.getTiles("basictiles", MazeMap.TILE_SIZE, MazeMap.TILE_SIZE)[9][2]);
         createPhysicsBody(world);
     }
 
@@ -40,8 +42,8 @@ private void createPhysicsBody(World world) {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.isSensor = true;
-        fixtureDef.filter.categoryBits = 0x0008; // Category for slow tiles
-        fixtureDef.filter.maskBits = 0x0001; // Collide with player, as we don't want to slow down the enemies
+        fixtureDef.filter.categoryBits = CollisionCategory.SLOW_TILE;
+        fixtureDef.filter.maskBits = CollisionCategory.PLAYER; // Collide with player, as we don't want to slow down the enemies
 
         body.createFixture(fixtureDef);
         body.setUserData(this);
@@ -1,15 +1,38 @@
 package de.tum.cit.fop.maze.pathfinding;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntFloatMap;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntSet;
 import de.tum.cit.fop.maze.MazeMap;
+import de.tum.cit.fop.maze.map.RegionMap;
+import de.tum.cit.fop.maze.map.TileGrid;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * A* pathfinding on the tile grid of a maze. The search state is kept in primitive maps keyed by
+ * tile index that only hold the tiles a search actually visits, so the memory follows the length
+ * of the searched paths rather than the area of the maze. The maps are reused between searches.
+ */
 public class Algorithm {
-    // The maze map used for pathfinding
-    private final MazeMap mazeMap;
-    // The grid of nodes representing the maze
-    private final Node[][] grid;
+    // Searches that visited more tiles than this give their extra memory back afterwards
+    private static final int RETAINED_SEARCH_CAPACITY = 1024;
+
+    // The tiles of the maze used for pathfinding
+    private final TileGrid tiles;
+    // The connected regions of the maze, to give up at once on targets that cannot be reached
+    private final RegionMap regions;
+    // The state of the current search: the tiles still to explore, the explored tiles,
+    // the cost from the start to a tile and the tile it was reached from
+    private final IntArray openList = new IntArray();
+    private final IntSet openSet = new IntSet();
+    private final IntSet closedSet = new IntSet();
+    private final IntFloatMap gCosts = new IntFloatMap();
+    private final IntFloatMap fCosts = new IntFloatMap();
+    private final IntIntMap parents = new IntIntMap();
 
     /**
      * Constructs a new Algorithm object.
@@ -17,23 +40,31 @@ public class Algorithm {
      * @param mazeMap the maze map used for pathfinding
      */
     public Algorithm(MazeMap mazeMap) {
-        this.mazeMap = mazeMap;
-
-        if (mazeMap.getMazeWidth() <= 0 || mazeMap.getMazeHeight() <= 0) {
-            throw new IllegalStateException("Maze dimensions are invalid. Load the maze first!");
-        }
+        this(mazeMap.getGrid());
+    }
 
-        this.grid = new Node[mazeMap.getMazeWidth()][mazeMap.getMazeHeight()];
-        initializeGrid();
+    /**
+     * Constructs a new Algorithm object directly on the tile grid of a maze.
+     * Only reads the grid, so it can be created on a background thread while the level is loading.
+     *
+     * @param tiles the tile grid used for pathfinding
+     */
+    public Algorithm(TileGrid tiles) {
+        this(tiles, tiles == null ? null : new RegionMap(tiles));
     }
 
     /**
-     * Initializes the grid of nodes based on the maze dimensions.
+     * Constructs a new Algorithm object on the tile grid of a maze whose regions were already labelled.
+     *
+     * @param tiles   the tile grid used for pathfinding
+     * @param regions the connected regions of the tile grid
      */
-    private void initializeGrid() {
-        for (int i = 0; i < mazeMap.getMazeWidth(); i++)
-            for (int j = 0; j < mazeMap.getMazeHeight(); j++)
-                grid[i][j] = new Node(i, j);
+    public Algorithm(TileGrid tiles, RegionMap regions) {
+        if (tiles == null) {
+            throw new IllegalStateException("Maze dimensions are invalid. Load the maze first!");
+        }
+        this.tiles = tiles;
+        this.regions = regions;
     }
 
     /**
@@ -44,141 +75,190 @@ private void initializeGrid() {
      * @return a list of Vector2 objects representing the path from the start to the target position
      */
     public List<Vector2> A_Star(Vector2 startWorldPos, Vector2 targetWorldPos) {
-        Node startNode = worldToNode(startWorldPos);
-        Node targetNode = worldToNode(targetWorldPos);
-        List<Node> openSet = new ArrayList<>();
-        Set<Node> closedSet = new HashSet<>();
-        openSet.add(startNode);
-        while (!openSet.isEmpty()) {
-            Node current_node = getLowestFCostNode(openSet);
-            openSet.remove(current_node);
-            closedSet.add(current_node);
-            // If we found the player
-            if (current_node.equals(targetNode)) {
-                return wayBack(startNode, targetNode);
+        IntArray tilePath = new IntArray();
+        List<Vector2> path = new ArrayList<>();
+        if (findPath(startWorldPos, targetWorldPos, tilePath)) {
+            for (int i = 0; i < tilePath.size; i++) {
+                path.add(getTileCenter(tilePath.get(i), new Vector2()));
             }
-            for (Node neighbor : getNeighbors(current_node)) {
-                // If we have been through that tile already or if on that tile we find an obstacle we skip it
-                if (closedSet.contains(neighbor) || mazeMap.isWall(neighbor.getX(), neighbor.getY()))
-                    continue;
-                // Calculate the distance Enemy -> current_node -> neighbor
-                float newMovementCost = current_node.getgCost() + ManhattanDistance(current_node, neighbor);
-                // If the path Enemy -> current_node -> neighbor is shorter then the path Enemy -> neighbor then we found a better way
-                if (newMovementCost < neighbor.getgCost() || !openSet.contains(neighbor)) {
-                    neighbor.setgCost(newMovementCost);
-                    float new_hCost = ManhattanDistance(neighbor, targetNode);
-                    neighbor.sethCost(new_hCost);
-                    float new_fCost = neighbor.getgCost() + neighbor.gethCost();
-                    neighbor.setfCost(new_fCost);
-                    neighbor.setParent(current_node);
-                    if (!openSet.contains(neighbor)) {
-                        openSet.add(neighbor);
-                    }
+        }
+        return path;
+    }
+
+    /**
+     * Performs the A* pathfinding algorithm like {@link #A_Star}, but writes the path into a list of tile indices
+     * owned by the caller, so searching every tick allocates nothing once the lists have grown.
+     *
+     * @param startWorldPos  the starting position in world coordinates
+     * @param targetWorldPos the target position in world coordinates
+     * @param path           receives the indices of the tiles from the start to the target, excluding the start
+     * @return true if a path was found, otherwise the path is left empty. Like {@link #isReachable},
+     * there is no path if either position lies on a tile that can't be walked on
+     */
+    public boolean findPath(Vector2 startWorldPos, Vector2 targetWorldPos, IntArray path) {
+        path.clear();
+        int startTile = worldToTile(startWorldPos);
+        int targetTile = worldToTile(targetWorldPos);
+        int width = tiles.getWidth();
+        // Without a connection the search would explore the whole region before giving up
+        if (!regions.isConnected(startTile % width, startTile / width, targetTile % width, targetTile / width)) {
+            return false;
+        }
+        try {
+            openList.add(startTile);
+            openSet.add(startTile);
+            gCosts.put(startTile, 0);
+            while (openList.size > 0) {
+                int current = removeLowestFCostTile();
+                closedSet.add(current);
+                // If we found the player
+                if (current == targetTile) {
+                    wayBack(startTile, targetTile, path);
+                    return true;
                 }
+                int x = current % width, y = current / width;
+                if (x > 0) visit(current, current - 1, targetTile);
+                if (x < width - 1) visit(current, current + 1, targetTile);
+                if (y > 0) visit(current, current - width, targetTile);
+                if (y < tiles.getHeight() - 1) visit(current, current + width, targetTile);
             }
+            // No path was found
+            return false;
+        } finally {
+            clearSearch();
         }
-        // No path was found
-        return new ArrayList<>();
     }
 
     /**
-     * Constructs the path from the start node to the end node.
+     * Updates the costs of a neighbour of the tile being explored.
      *
-     * @param startNode the starting node
-     * @param endNode   the ending node
-     * @return a list of Vector2 objects representing the path
+     * @param current    the tile being explored
+     * @param neighbor   the neighbour of the tile
+     * @param targetTile the tile the search is looking for
      */
-    private List<Vector2> wayBack(Node startNode, Node endNode) {
-
-        List<Vector2> path = new ArrayList<>();
-        Node current_node = endNode;
+    private void visit(int current, int neighbor, int targetTile) {
+        int width = tiles.getWidth();
+        // If we have been through that tile already or if that tile can't be walked on we skip it
+        if (closedSet.contains(neighbor) || !tiles.isWalkable(neighbor % width, neighbor / width)) return;
+        // Calculate the distance Enemy -> current -> neighbor, neighbours are always one step apart
+        float newMovementCost = gCosts.get(current, 0) + 1;
+        boolean open = openSet.contains(neighbor);
+        // If the path Enemy -> current -> neighbor is shorter then the path Enemy -> neighbor then we found a better way
+        if (!open || newMovementCost < gCosts.get(neighbor, 0)) {
+            gCosts.put(neighbor, newMovementCost);
+            fCosts.put(neighbor, newMovementCost + manhattanDistance(neighbor, targetTile));
+            parents.put(neighbor, current);
+            if (!open) {
+                openList.add(neighbor);
+                openSet.add(neighbor);
+            }
+        }
+    }
 
-        while (current_node != startNode) {
-            path.add(nodeToWorld(current_node));
-            current_node = current_node.getParent();
+    /**
+     * Removes the open tile with the lowest f-cost.
+     *
+     * @return the index of the tile
+     */
+    private int removeLowestFCostTile() {
+        int lowest = 0;
+        float lowestCost = fCosts.get(openList.get(0), 0);
+        for (int i = 1; i < openList.size; i++) {
+            float cost = fCosts.get(openList.get(i), 0);
+            if (cost < lowestCost) {
+                lowest = i;
+                lowestCost = cost;
+            }
         }
-        Collections.reverse(path);
-        return path;
+        int tile = openList.removeIndex(lowest);
+        openSet.remove(tile);
+        return tile;
     }
 
     /**
-     * Calculates the Manhattan distance between two nodes.
+     * Resets the search state, shrinking it again after an unusually large search.
+     */
+    private void clearSearch() {
+        openList.clear();
+        openSet.clear(RETAINED_SEARCH_CAPACITY);
+        closedSet.clear(RETAINED_SEARCH_CAPACITY);
+        gCosts.clear(RETAINED_SEARCH_CAPACITY);
+        fCosts.clear(RETAINED_SEARCH_CAPACITY);
+        parents.clear(RETAINED_SEARCH_CAPACITY);
+    }
+
+    /**
+     * Checks if there is a path at all between two positions, in constant time.
      *
-     * @param a the first node
-     * @param b the second node
-     * @return the Manhattan distance between the nodes
+     * @param startWorldPos  the starting position in world coordinates
+     * @param targetWorldPos the target position in world coordinates
+     * @return true if A* would find a path between the positions, false if either of them lies on a tile
+     * that can't be walked on, as such a tile has {@link RegionMap#NO_REGION}
      */
-    private float ManhattanDistance(Node a, Node b) {
-        return Math.abs(a.getX() - b.getX()) + Math.abs(a.getY() - b.getY());
+    public boolean isReachable(Vector2 startWorldPos, Vector2 targetWorldPos) {
+        int startTile = worldToTile(startWorldPos);
+        int targetTile = worldToTile(targetWorldPos);
+        int width = tiles.getWidth();
+        return regions.isConnected(startTile % width, startTile / width, targetTile % width, targetTile / width);
+    }
+
+    public RegionMap getRegions() {
+        return regions;
     }
 
     /**
-     * Gets the node with the lowest f-cost from a list of nodes.
+     * Constructs the path from the start tile to the end tile.
      *
-     * @param nodes the list of nodes
-     * @return the node with the lowest f-cost
+     * @param startTile the starting tile
+     * @param endTile   the ending tile
+     * @param path      receives the indices of the tiles of the path
      */
-    private Node getLowestFCostNode(List<Node> nodes) {
-        Node lowest = nodes.get(0);
-        for (Node node : nodes) {
-            if (node.getfCost() < lowest.getfCost())
-                lowest = node;
+    private void wayBack(int startTile, int endTile, IntArray path) {
+        int current = endTile;
+        while (current != startTile) {
+            path.add(current);
+            current = parents.get(current, startTile);
         }
-        return lowest;
+        path.reverse();
     }
 
     /**
-     * Converts a node to world coordinates.
+     * Calculates the Manhattan distance between two tiles.
      *
-     * @param node the node to convert
-     * @return the world coordinates of the node
+     * @param a the index of the first tile
+     * @param b the index of the second tile
+     * @return the Manhattan distance between the tiles
      */
-    private Vector2 nodeToWorld(Node node) {
-        return new Vector2(
-                node.getX() + 0.5f,
-                node.getY() + 0.5f
-        );
+    private float manhattanDistance(int a, int b) {
+        int width = tiles.getWidth();
+        return Math.abs(a % width - b % width) + Math.abs(a / width - b / width);
     }
 
     /**
-     * Converts world coordinates to a node.
+     * Converts a tile of a path to world coordinates.
      *
-     * @param worldPos the world coordinates to convert
-     * @return the node corresponding to the world coordinates
+     * @param tile the index of the tile
+     * @param out  the vector receiving the coordinates
+     * @return the world coordinates of the center of the tile, i.e. out
      */
-    private Node worldToNode(Vector2 worldPos) {
-        int x = (int) Math.floor(worldPos.x);
-        int y = (int) Math.floor(worldPos.y);
-
-        x = Math.max(0, Math.min(x, mazeMap.getMazeWidth() - 1));
-        y = Math.max(0, Math.min(y, mazeMap.getMazeHeight() - 1));
-
-        return grid[x][y];
+    public Vector2 getTileCenter(int tile, Vector2 out) {
+        int width = tiles.getWidth();
+        return out.set(tile % width + 0.5f, tile / width + 0.5f);
     }
 
     /**
-     * Gets the neighbors of a node.
+     * Converts world coordinates to a tile.
      *
-     * @param node the node to get the neighbors of
-     * @return a list of neighboring nodes
+     * @param worldPos the world coordinates to convert
+     * @return the index of the tile at the world coordinates, clamped to the maze
      */
-    private List<Node> getNeighbors(Node node) {
-        List<Node> neighbors = new ArrayList<>();
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                // If we get a tile by diagonal movement we skip it / or our tile itself
-                if (i == 0 && j == 0 || (i != 0 && j != 0))
-                    continue;
-
-                int checkX = node.getX() + i;
-                int checkY = node.getY() + j;
-
-                // If the tile is within the maze add it to neighbors
-                if (checkX >= 0 && checkX < mazeMap.getMazeWidth() && checkY >= 0 && checkY < mazeMap.getMazeHeight()) {
-                    neighbors.add(grid[checkX][checkY]);
-                }
-            }
-        }
-        return neighbors;
+    private int worldToTile(Vector2 worldPos) {
+        int x = (int) Math.floor(worldPos.x);
+        int y = (int) Math.floor(worldPos.y);
+
+        x = Math.max(0, Math.min(x, tiles.getWidth() - 1));
+        y = Math.max(0, Math.min(y, tiles.getHeight() - 1));
+
+        return tiles.index(x, y);
     }
 }
@@ -0,0 +1,28 @@
+package de.tum.cit.fop.maze.physics;
+
+/**
+ * The Box2D collision categories, one bit per type of object. As no two types share a bit, the
+ * categories of the two fixtures of a contact identify the pair of types, which is what the
+ * {@link ContactDispatcher} uses to pick the handler.
+ */
+public final class CollisionCategory {
+    public static final short PLAYER = 0x0001;
+    public static final short WALL = 0x0002;
+    public static final short LASER_TRAP = 0x0004;
+    public static final short FISH = 0x0008;
+    public static final short EXIT = 0x0010;
+    public static final short SLOW_TILE = 0x0020;
+    public static final short ENEMY = 0x0040;
+    public static final short HEART = 0x0080;
+    public static final short ABILITY = 0x0100;
+    // Category of the light rays, no body belongs to it
+    public static final short LIGHT = (short) 0x8000;
+
+    /**
+     * The highest category a body can have, the contact tables are sized to fit any pair up to it.
+     */
+    static final int HIGHEST_BODY_CATEGORY = ABILITY;
+
+    private CollisionCategory() {
+    }
+}
@@ -0,0 +1,108 @@
+package de.tum.cit.fop.maze.physics;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Manifold;
+
+/**
+ * Routes Box2D contacts to handlers registered for a pair of {@link CollisionCategory categories}.
+ * The handlers live in tables indexed by the two categories or-ed together, so a contact costs a
+ * single lookup no matter how many handlers there are, and pairs without a handler cost nothing more.
+ */
+public class ContactDispatcher implements ContactListener {
+    private static final int TABLE_SIZE = CollisionCategory.HIGHEST_BODY_CATEGORY << 1;
+
+    /**
+     * Reacts to a contact between the bodies of two game objects.
+     */
+    @FunctionalInterface
+    public interface ContactHandler {
+        /**
+         * Handles a contact.
+         *
+         * @param first  the user data of the body with the first category the handler was registered for
+         * @param second the user data of the other body
+         */
+        void handle(Object first, Object second);
+    }
+
+    private final ContactHandler[] beginHandlers = new ContactHandler[TABLE_SIZE];
+    private final ContactHandler[] endHandlers = new ContactHandler[TABLE_SIZE];
+    // The category whose body is passed first, per pair, as both tables are indexed regardless of order
+    private final short[] firstCategories = new short[TABLE_SIZE];
+
+    /**
+     * Registers the handler called when two bodies of the given categories start touching.
+     *
+     * @param first   the category of the body passed first to the handler
+     * @param second  the category of the body passed second to the handler
+     * @param handler the handler
+     */
+    public void onBegin(short first, short second, ContactHandler handler) {
+        beginHandlers[register(first, second)] = handler;
+    }
+
+    /**
+     * Registers the handler called when two bodies of the given categories stop touching.
+     *
+     * @param first   the category of the body passed first to the handler
+     * @param second  the category of the body passed second to the handler
+     * @param handler the handler
+     */
+    public void onEnd(short first, short second, ContactHandler handler) {
+        endHandlers[register(first, second)] = handler;
+    }
+
+    private int register(short first, short second) {
+        if (first == second || Integer.bitCount(first & 0xFFFF) != 1 || Integer.bitCount(second & 0xFFFF) != 1
+                || (first & 0xFFFF) > CollisionCategory.HIGHEST_BODY_CATEGORY
+                || (second & 0xFFFF) > CollisionCategory.HIGHEST_BODY_CATEGORY) {
+            throw new IllegalArgumentException("Contact handlers need two different body categories");
+        }
+        int index = first | second;
+        firstCategories[index] = first;
+        return index;
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        dispatch(beginHandlers, contact);
+    }
+
+    @Override
+    public void endContact(Contact contact) {
+        dispatch(endHandlers, contact);
+    }
+
+    private void dispatch(ContactHandler[] handlers, Contact contact) {
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        int categoryA = fixtureA.getFilterData().categoryBits & 0xFFFF;
+        int categoryB = fixtureB.getFilterData().categoryBits & 0xFFFF;
+
+        int index = categoryA | categoryB;
+        if (index >= TABLE_SIZE) return;
+        ContactHandler handler = handlers[index];
+        if (handler == null) return;
+
+        Object userDataA = fixtureA.getBody().getUserData();
+        Object userDataB = fixtureB.getBody().getUserData();
+        if (categoryA == firstCategories[index]) {
+            handler.handle(userDataA, userDataB);
+        } else {
+            handler.handle(userDataB, userDataA);
+        }
+    }
+
+    @Override
+    public void preSolve(Contact contact, Manifold manifold) {
+
+    }
+
+    @Override
+    public void postSolve(Contact contact, ContactImpulse contactImpulse) {
+
+    }
+}
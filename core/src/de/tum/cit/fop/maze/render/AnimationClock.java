@@ -0,0 +1,42 @@
+package de.tum.cit.fop.maze.render;
+
+import de.tum.cit.fop.maze.map.DecorationLayer;
+
+/**
+ * The one clock all looping animations of a level are played by. It is advanced once per frame,
+ * so an animated object needs no state time of its own and costs nothing while it isn't drawn.
+ * Objects get a fixed phase offset from their tile, so neighbouring pickups don't spin in lockstep.
+ */
+public class AnimationClock {
+    private float time;
+
+    /**
+     * Advances the clock, called once per frame while the game is running.
+     *
+     * @param delta the time in seconds since the last frame
+     */
+    public void advance(float delta) {
+        time += delta;
+    }
+
+    /**
+     * Gets the time in seconds the clock has run for.
+     *
+     * @return the time
+     */
+    public float getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the phase offset of an object on a tile, stable across runs.
+     *
+     * @param x        X coordinate of the tile
+     * @param y        Y coordinate of the tile
+     * @param duration the duration of one loop of the animation in seconds
+     * @return an offset in [0, duration) to add to the time of the clock
+     */
+    public static float getPhase(int x, int y, float duration) {
+        return DecorationLayer.hash(x, y) * duration;
+    }
+}
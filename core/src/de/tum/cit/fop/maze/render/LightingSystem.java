@@ -0,0 +1,190 @@
+package de.tum.cit.fop.maze.render;
+
+import box2dLight.PointLight;
+import box2dLight.RayHandler;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+import de.tum.cit.fop.maze.MazeMap;
+import de.tum.cit.fop.maze.objects.ExitPoint;
+import de.tum.cit.fop.maze.objects.LaserTrap;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
+
+import java.util.List;
+
+/**
+ * Point lights around the player, the active laser traps and the exits, rendered with Box2DLights.
+ * A fixed pool of lights, as large as the cap of the {@link LightingTier}, is assigned every frame to the light
+ * sources near the camera; all other sources are culled. The light map is rendered at a fraction of the screen
+ * resolution, and the lighting pass is skipped entirely when the tier is off or nothing is lit.
+ */
+public class LightingSystem implements Disposable {
+    private static final float AMBIENT_LIGHT = 0.3f;
+    private static final float PLAYER_LIGHT_DISTANCE = 5f;
+    private static final float LASER_LIGHT_DISTANCE = 2.5f;
+    private static final float EXIT_LIGHT_DISTANCE = 3f;
+    // Sources further than this outside the view can't light anything inside it
+    private static final float CULL_MARGIN = Math.max(PLAYER_LIGHT_DISTANCE, Math.max(LASER_LIGHT_DISTANCE, EXIT_LIGHT_DISTANCE));
+
+    private static final Color PLAYER_LIGHT_COLOR = new Color(1f, 0.95f, 0.8f, 0.9f);
+    private static final Color LASER_LIGHT_COLOR = new Color(1f, 0.1f, 0.1f, 0.8f);
+    private static final Color EXIT_LIGHT_COLOR = new Color(1f, 0.85f, 0.3f, 0.8f);
+
+    private final World world;
+    private LightingTier tier = LightingTier.OFF;
+    private RayHandler rayHandler;
+    private PointLight[] lights = new PointLight[0];
+    private int activeLights;
+    private int screenWidth, screenHeight;
+
+    // Camera in Box2D units and the visible area grown by the cull margin, updated by update
+    private final Matrix4 lightMatrix = new Matrix4();
+    private float viewX, viewY, viewWidth, viewHeight;
+    private float minX, minY, maxX, maxY;
+
+    /**
+     * Constructs a new LightingSystem.
+     *
+     * @param world        the Box2D world whose walls cast shadows
+     * @param tier         the initial quality tier
+     * @param screenWidth  the width of the screen in pixels
+     * @param screenHeight the height of the screen in pixels
+     */
+    public LightingSystem(World world, LightingTier tier, int screenWidth, int screenHeight) {
+        this.world = world;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        setTier(tier);
+    }
+
+    /**
+     * Switches to another quality tier, recreating the light map and the light pool.
+     *
+     * @param tier the new tier
+     */
+    public void setTier(LightingTier tier) {
+        disposeRayHandler();
+        this.tier = tier;
+        if (tier == LightingTier.OFF) return;
+
+        RayHandler.useDiffuseLight(true);
+        rayHandler = new RayHandler(world, lightMapWidth(), lightMapHeight());
+        rayHandler.setAmbientLight(AMBIENT_LIGHT, AMBIENT_LIGHT, AMBIENT_LIGHT, 1f);
+        rayHandler.setBlur(tier.blur);
+        rayHandler.setCulling(true);
+
+        lights = new PointLight[tier.maxLights];
+        for (int i = 0; i < lights.length; i++) {
+            PointLight light = new PointLight(rayHandler, tier.rays);
+            light.setXray(tier.xray);
+            // Only walls cast shadows, not the sensors of items and traps
+            light.setContactFilter(CollisionCategory.LIGHT, (short) 0, CollisionCategory.WALL);
+            light.setActive(false);
+            lights[i] = light;
+        }
+        activeLights = 0;
+    }
+
+    public LightingTier getTier() {
+        return tier;
+    }
+
+    private int lightMapWidth() {
+        return Math.max(1, screenWidth / tier.lightMapDownscale);
+    }
+
+    private int lightMapHeight() {
+        return Math.max(1, screenHeight / tier.lightMapDownscale);
+    }
+
+    /**
+     * Resizes the light map to a new screen size.
+     *
+     * @param width  the width of the screen in pixels
+     * @param height the height of the screen in pixels
+     */
+    public void resize(int width, int height) {
+        screenWidth = width;
+        screenHeight = height;
+        if (rayHandler != null) {
+            rayHandler.resizeFBO(lightMapWidth(), lightMapHeight());
+        }
+    }
+
+    /**
+     * Assigns the pooled lights to the light sources near the camera. The player always gets the first light.
+     *
+     * @param camera         the camera showing the maze, in pixels
+     * @param playerPosition the position of the player in tile units
+     * @param laserTraps     the laser traps of the maze, lit while dangerous
+     * @param exitPoints     the exits of the maze
+     */
+    public void update(OrthographicCamera camera, Vector2 playerPosition, List<LaserTrap> laserTraps, List<ExitPoint> exitPoints) {
+        if (rayHandler == null) return;
+
+        // The camera works in pixels, the lights in Box2D units of one tile
+        lightMatrix.set(camera.combined).scl(MazeMap.TILE_SIZE);
+        viewX = camera.position.x / MazeMap.TILE_SIZE;
+        viewY = camera.position.y / MazeMap.TILE_SIZE;
+        viewWidth = camera.viewportWidth * camera.zoom / MazeMap.TILE_SIZE;
+        viewHeight = camera.viewportHeight * camera.zoom / MazeMap.TILE_SIZE;
+        minX = viewX - viewWidth / 2f - CULL_MARGIN;
+        minY = viewY - viewHeight / 2f - CULL_MARGIN;
+        maxX = viewX + viewWidth / 2f + CULL_MARGIN;
+        maxY = viewY + viewHeight / 2f + CULL_MARGIN;
+
+        int previousActiveLights = activeLights;
+        activeLights = 0;
+        addLight(playerPosition.x, playerPosition.y, PLAYER_LIGHT_COLOR, PLAYER_LIGHT_DISTANCE);
+        for (int i = 0; i < exitPoints.size(); i++) {
+            ExitPoint exit = exitPoints.get(i);
+            addLight(exit.getX() + 0.5f, exit.getY() + 0.5f, EXIT_LIGHT_COLOR, EXIT_LIGHT_DISTANCE);
+        }
+        for (int i = 0; i < laserTraps.size(); i++) {
+            LaserTrap trap = laserTraps.get(i);
+            if (trap.isDangerous()) {
+                addLight(trap.getX() + 0.5f, trap.getY() + 0.5f, LASER_LIGHT_COLOR, LASER_LIGHT_DISTANCE);
+            }
+        }
+        for (int i = activeLights; i < previousActiveLights; i++) {
+            lights[i].setActive(false);
+        }
+    }
+
+    private void addLight(float x, float y, Color color, float distance) {
+        if (activeLights == lights.length || x < minX || x > maxX || y < minY || y > maxY) return;
+        PointLight light = lights[activeLights++];
+        light.setPosition(x, y);
+        light.setColor(color);
+        light.setDistance(distance);
+        light.setActive(true);
+    }
+
+    /**
+     * Renders the light map over the world. Does nothing if the tier is off or no light is in view.
+     * Must not be called between begin and end of a SpriteBatch.
+     */
+    public void render() {
+        if (rayHandler == null || activeLights == 0) return;
+        rayHandler.setCombinedMatrix(lightMatrix, viewX, viewY, viewWidth, viewHeight);
+        rayHandler.updateAndRender();
+    }
+
+    private void disposeRayHandler() {
+        if (rayHandler != null) {
+            // Also disposes the lights
+            rayHandler.dispose();
+            rayHandler = null;
+        }
+        lights = new PointLight[0];
+        activeLights = 0;
+    }
+
+    @Override
+    public void dispose() {
+        disposeRayHandler();
+    }
+}
@@ -0,0 +1,40 @@
+package de.tum.cit.fop.maze.render;
+
+/**
+ * Quality levels of the lighting, from no lighting pass at all to soft lights with wall shadows.
+ */
+public enum LightingTier {
+    // No light map, the maze is fully lit
+    OFF(0, 0, 1, true, false),
+    // Few lights without shadows on a quarter resolution light map
+    CHEAP(8, 8, 4, true, false),
+    // Lights cast wall shadows on a blurred half resolution light map
+    FULL(32, 64, 2, false, true);
+
+    // Most lights active at once, further lights in view stay dark
+    final int maxLights;
+    final int rays;
+    // The light map is this many times smaller than the screen in each direction
+    final int lightMapDownscale;
+    // Lights shine through walls, so no rays are cast against the world
+    final boolean xray;
+    final boolean blur;
+
+    LightingTier(int maxLights, int rays, int lightMapDownscale, boolean xray, boolean blur) {
+        this.maxLights = maxLights;
+        this.rays = rays;
+        this.lightMapDownscale = lightMapDownscale;
+        this.xray = xray;
+        this.blur = blur;
+    }
+
+    /**
+     * Gets the tier after this one, wrapping around to {@link #OFF}.
+     *
+     * @return the next tier
+     */
+    public LightingTier next() {
+        LightingTier[] tiers = values();
+        return tiers[(ordinal() + 1) % tiers.length];
+    }
+}
@@ -0,0 +1,17 @@
+package de.tum.cit.fop.maze.render;
+
+/**
+ * The layers of the world, drawn from bottom to top in the order they are declared.
+ */
+public enum RenderLayer {
+    // Paths, walls, entries, exits and slow tiles
+    GROUND,
+    // Fish, hearts and abilities
+    ITEMS,
+    // Laser traps, drawn over items so a trap is never hidden
+    TRAPS,
+    // Player and enemies
+    ENTITIES,
+    // Effects on top of everything else in the world
+    OVERLAY
+}
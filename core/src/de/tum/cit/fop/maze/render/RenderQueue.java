@@ -0,0 +1,113 @@
+package de.tum.cit.fop.maze.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Arrays;
+
+/**
+ * Collects the sprites drawn in a frame and draws them in one ordered pass: by layer first, then by texture,
+ * so the SpriteBatch only flushes when the texture really changes. Sprites with the same layer and texture
+ * keep the order they were submitted in, which makes the result deterministic.
+ * The order is packed into one long per sprite, so sorting needs no comparator and allocates nothing.
+ */
+public class RenderQueue {
+    // Layout of a sort key: layer | texture ID | submission index
+    private static final int TEXTURE_SHIFT = 32;
+    private static final int LAYER_SHIFT = 56;
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    private Sprite[] sprites = new Sprite[256];
+    // Regions submitted without a sprite, with their x, y, width and height in bounds
+    private TextureRegion[] regions = new TextureRegion[256];
+    private float[] bounds = new float[256 * 4];
+    private long[] keys = new long[256];
+    private int size;
+    // IDs in the order the textures were first seen
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+
+    /**
+     * Submits a sprite for the current frame. The sprite is drawn as it is when the queue is rendered.
+     *
+     * @param layer  the layer to draw the sprite on
+     * @param sprite the sprite to draw
+     */
+    public void add(RenderLayer layer, Sprite sprite) {
+        ensureCapacity();
+        sprites[size] = sprite;
+        keys[size] = (long) layer.ordinal() << LAYER_SHIFT | (long) getTextureId(sprite.getTexture()) << TEXTURE_SHIFT | size;
+        size++;
+    }
+
+    /**
+     * Submits a texture region for the current frame, for objects that draw a shared frame
+     * at a fixed place instead of keeping a sprite of their own.
+     *
+     * @param layer  the layer to draw the region on
+     * @param region the region to draw
+     * @param x      the x-coordinate of the lower left corner in pixels
+     * @param y      the y-coordinate of the lower left corner in pixels
+     * @param width  the width in pixels
+     * @param height the height in pixels
+     */
+    public void add(RenderLayer layer, TextureRegion region, float x, float y, float width, float height) {
+        ensureCapacity();
+        regions[size] = region;
+        int bound = size * 4;
+        bounds[bound] = x;
+        bounds[bound + 1] = y;
+        bounds[bound + 2] = width;
+        bounds[bound + 3] = height;
+        keys[size] = (long) layer.ordinal() << LAYER_SHIFT | (long) getTextureId(region.getTexture()) << TEXTURE_SHIFT | size;
+        size++;
+    }
+
+    private void ensureCapacity() {
+        if (size == sprites.length) {
+            sprites = Arrays.copyOf(sprites, size * 2);
+            regions = Arrays.copyOf(regions, size * 2);
+            bounds = Arrays.copyOf(bounds, size * 2 * 4);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+    }
+
+    private int getTextureId(Texture texture) {
+        int id = textureIds.get(texture, -1);
+        if (id == -1) {
+            id = textureIds.size;
+            textureIds.put(texture, id);
+        }
+        return id;
+    }
+
+    /**
+     * Draws all sprites submitted since the last call in order and empties the queue.
+     * Must be called between begin and end of the batch.
+     *
+     * @param batch the SpriteBatch to draw with
+     */
+    public void render(SpriteBatch batch) {
+        Arrays.sort(keys, 0, size);
+        for (int i = 0; i < size; i++) {
+            int index = (int) (keys[i] & INDEX_MASK);
+            Sprite sprite = sprites[index];
+            if (sprite != null) {
+                sprite.draw(batch);
+            } else {
+                int bound = index * 4;
+                batch.draw(regions[index], bounds[bound], bounds[bound + 1], bounds[bound + 2], bounds[bound + 3]);
+            }
+        }
+        // Don't keep objects of unloaded chunks alive
+        Arrays.fill(sprites, 0, size, null);
+        Arrays.fill(regions, 0, size, null);
+        size = 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
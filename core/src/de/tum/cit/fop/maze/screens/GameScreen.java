@@ -1,31 +1,53 @@
 package de.tum.cit.fop.maze.screens;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ScreenUtils;
-import box2dLight.RayHandler;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import de.tum.cit.fop.maze.HUD;
 import de.tum.cit.fop.maze.MazeMap;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.Minimap;
+import de.tum.cit.fop.maze.SimulationClock;
+import de.tum.cit.fop.maze.assets.GameAssets;
 import de.tum.cit.fop.maze.entities.Enemy;
+import de.tum.cit.fop.maze.debug.AllocationCounter;
+import de.tum.cit.fop.maze.debug.DrawCallProfiler;
+import de.tum.cit.fop.maze.debug.PerformanceOverlay;
+import de.tum.cit.fop.maze.debug.PerformanceOverlay.Phase;
+import de.tum.cit.fop.maze.ecs.components.CollectedComponent;
+import de.tum.cit.fop.maze.ecs.components.PickupComponent;
+import de.tum.cit.fop.maze.ecs.systems.EnemyAISystem;
+import de.tum.cit.fop.maze.ecs.systems.PickupSystem;
+import de.tum.cit.fop.maze.ecs.systems.SpriteRenderSystem;
+import de.tum.cit.fop.maze.ecs.systems.TrapAnimationSystem;
+import de.tum.cit.fop.maze.ecs.systems.TrapTimerSystem;
+import de.tum.cit.fop.maze.ecs.systems.TransformSystem;
 import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.map.PreparedLevel;
 import de.tum.cit.fop.maze.objects.*;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import de.tum.cit.fop.maze.objects.LaserTrap;
 import de.tum.cit.fop.maze.pathfinding.Algorithm;
+import de.tum.cit.fop.maze.physics.CollisionCategory;
+import de.tum.cit.fop.maze.physics.ContactDispatcher;
+import de.tum.cit.fop.maze.render.LightingSystem;
+import de.tum.cit.fop.maze.render.RenderQueue;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.io.IOException;
+import java.util.List;
 
 /**
  * Represents the main game screen where the game is played.
@@ -49,7 +71,7 @@ public class GameScreen implements Screen {
     private Player player;
     private String mapPath;
 
-    private RayHandler rayHandler;
+    private LightingSystem lighting;
     private Box2DDebugRenderer debugRenderer;
     private Algorithm pathfinder;
     private boolean wasAbilityActive = false;
@@ -58,13 +80,39 @@ public class GameScreen implements Screen {
     private int lastHeight = -1;
     private boolean isPaused = false;
 
-    private Set<LaserTrap> activeContactTraps = new HashSet<>();
-    private final Set<Fish> fishToCollect = new HashSet<>();
-    private final Set<Heart> heartsToCollect = new HashSet<>();
-    private final Set<Ability> abilityToCollect = new HashSet<>();
+    // Traps the player is standing in, a list iterated by index as it is checked every tick
+    private final Array<LaserTrap> activeContactTraps = new Array<>();
+
+    // Systems of the maze's engine, run one by one in the order of a tick so each can be timed
+    private TransformSystem transformSystem;
+    private TrapTimerSystem trapTimerSystem;
+    private EnemyAISystem enemyAISystem;
+    private PickupSystem pickupSystem;
+    private TrapAnimationSystem trapAnimationSystem;
+    private SpriteRenderSystem spriteRenderSystem;
 
     private HUD hud;
+    private Minimap minimap;
+    private DrawCallProfiler drawCallProfiler;
+    private PerformanceOverlay performanceOverlay;
+    private final AllocationCounter allocationCounter = new AllocationCounter();
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final SimulationClock simulationClock = new SimulationClock();
     private final Vector2 playerPosition = new Vector2();
+    private final Vector3 cameraTarget = new Vector3();
+
+    // Loading stages, see loadStep
+    private static final int LOAD_ASSETS = 0;
+    private static final int PREPARE_LEVEL = 1;
+    private static final int CREATE_WORLD = 2;
+    private static final int BUILD_MAZE = 3;
+    private static final int CREATE_ENTITIES = 4;
+    private static final int LOAD_CHUNKS = 5;
+    private static final int CREATE_HUD = 6;
+    private static final int LOADED = 7;
+    private static final int ROWS_PER_LOAD_SLICE = 4;
+    private int loadingStage = LOAD_ASSETS;
+    private PreparedLevel preparedLevel;
 
     /**
      * Constructs a new GameScreen object.
@@ -76,198 +124,170 @@ public GameScreen(MazeRunnerGame game, String mapPath) {
         this.game = game;
         this.mapPath = mapPath;
 
-        fishSound = Gdx.audio.newSound(Gdx.files.internal("assets/chewing.mp3"));
-        slowTileSound = Gdx.audio.newSound(Gdx.files.internal("assets/slowmo.mp3"));
-        enemySound = Gdx.audio.newSound(Gdx.files.internal("assets/meow.mp3"));
-        laserSound = Gdx.audio.newSound(Gdx.files.internal("assets/laser.mp3"));
+        // Only queued here and loaded by loadStep, held until dispose, which releases them again with the level.
+        // Last in the constructor and queued all or nothing, so a constructor that throws holds nothing.
+        game.getAssets().queueLevelAssets();
+    }
+
+    /**
+     * Constructs a new GameScreen for a level whose map was already prepared on a background thread.
+     *
+     * @param game  the main game class
+     * @param level the prepared level
+     */
+    public GameScreen(MazeRunnerGame game, PreparedLevel level) {
+        this(game, level.getMapPath());
+        // Owned from here on, the caller keeps it if the constructor throws
+        this.preparedLevel = level;
     }
 
     @Override
     public void show() {
-        // Stop reinitializing the game world if it already exists (e.g. when resuming from pause)
-        if (gameWorld != null) {
-            return;
-        }
-
-        // Initialize RayHandler
-        RayHandler.useDiffuseLight(true);
-        rayHandler = new RayHandler(gameWorld);
-        rayHandler.setAmbientLight(1f, 1f, 1f, 1.0f); // Soft white ambient light
-
-        Box2D.init();
-        gameWorld = new World(new Vector2(0, 0), true);
-
-        gameWorld.setContactListener(new ContactListener() {
-            @Override
-            public void beginContact(Contact contact) {
-                handleTrapContact(contact, true);
-                handleFishContact(contact, true);
-                handleSlowTileContact(contact, true);
-                handleHeartContact(contact, true);
-                handleEnemyContact(contact, true);
-                handleAbilityContact(contact, true);
-            }
-
-            @Override
-            public void endContact(Contact contact) {
-                handleTrapContact(contact, false);
-            }
-
-            @Override
-            public void preSolve(Contact contact, Manifold manifold) {
-
-            }
-
-            @Override
-            public void postSolve(Contact contact, ContactImpulse contactImpulse) {
-
-            }
+        // Finish loading at once if the LoadingScreen didn't, does nothing when resuming from pause
+        loadStep(Long.MAX_VALUE);
+    }
 
-            /**
-             * Handles contact with laser traps.
-             *
-             * @param contact the contact object
-             * @param isBegin true if the contact is beginning, false if ending
-             */
-            private void handleTrapContact(Contact contact, boolean isBegin) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-
-                Object userDataA = fixtureA.getBody().getUserData();
-                Object userDataB = fixtureB.getBody().getUserData();
-
-                if ((userDataA instanceof Player && userDataB instanceof LaserTrap) ||
-                        (userDataB instanceof Player && userDataA instanceof LaserTrap)) {
-                    LaserTrap trap = (userDataA instanceof LaserTrap) ? (LaserTrap) userDataA : (LaserTrap) userDataB;
-                    if (isBegin) {
-                        activeContactTraps.add(trap);
-                        if (trap.isDangerous()) {
-                            player.loseLives(1);
-                            laserSound.play();
-                        }
-                    } else {
-                        activeContactTraps.remove(trap);
+    /**
+     * Runs the next part of loading the level on the render thread, for at most the given time budget.
+     * Loading the queued assets and creating the textures and Box2D bodies is split into small slices
+     * so the window keeps responding.
+     *
+     * @param budgetNanos the time after which loading pauses until the next call, in nanoseconds
+     * @return true once the level is fully loaded
+     */
+    public boolean loadStep(long budgetNanos) {
+        long start = TimeUtils.nanoTime();
+        while (loadingStage != LOADED) {
+            switch (loadingStage) {
+                case LOAD_ASSETS -> {
+                    GameAssets assets = game.getAssets();
+                    long remainingMillis = (budgetNanos - (TimeUtils.nanoTime() - start)) / 1_000_000L;
+                    if (assets.update((int) Math.min(remainingMillis, Integer.MAX_VALUE))) {
+                        fishSound = assets.getSound(GameAssets.FISH_SOUND);
+                        slowTileSound = assets.getSound(GameAssets.SLOW_TILE_SOUND);
+                        enemySound = assets.getSound(GameAssets.ENEMY_SOUND);
+                        laserSound = assets.getSound(GameAssets.LASER_SOUND);
+                        loadingStage = PREPARE_LEVEL;
                     }
                 }
-            }
-
-            /**
-             * Handles contact with fish.
-             *
-             * @param contact the contact object
-             * @param isBegin true if the contact is beginning, false if ending
-             */
-            private void handleFishContact(Contact contact, boolean isBegin) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-
-                Object userDataA = fixtureA.getBody().getUserData();
-                Object userDataB = fixtureB.getBody().getUserData();
-
-                if ((userDataA instanceof Player && userDataB instanceof Fish) ||
-                        (userDataB instanceof Player && userDataA instanceof Fish)) {
-                    Fish fish = (userDataA instanceof Fish) ? (Fish) userDataA : (Fish) userDataB;
-                    if (isBegin) {
-                        fishToCollect.add(fish);
+                case PREPARE_LEVEL -> {
+                    if (preparedLevel == null) {
+                        try {
+                            preparedLevel = PreparedLevel.prepare(mapPath);
+                        } catch (IOException e) {
+                            throw new GdxRuntimeException("Could not load map " + mapPath, e);
+                        }
                     }
+                    loadingStage = CREATE_WORLD;
                 }
-            }
-
-            /**
-             * Handles contact with slow tiles.
-             *
-             * @param contact the contact object
-             * @param isBegin true if the contact is beginning, false if ending
-             */
-            private void handleSlowTileContact(Contact contact, boolean isBegin) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-
-                // Check if either fixture is the slow tile and the other is the player
-                if ((fixtureA.getBody().getUserData() instanceof SlowTile &&
-                        fixtureB.getBody().getUserData() instanceof Player) ||
-                        (fixtureB.getBody().getUserData() instanceof SlowTile &&
-                                fixtureA.getBody().getUserData() instanceof Player)) {
-
-                    if (isBegin) {
-                        player.applySlowEffect(5);
-                        slowTileSound.play();
-                    }
+                case CREATE_WORLD -> {
+                    createWorld();
+                    mazeMap = new MazeMap(preparedLevel.getGrid(), preparedLevel.getWallAutotiler(), gameWorld, game.getAssets());
+                    loadingStage = BUILD_MAZE;
                 }
-            }
-
-            /**
-             * Handles contact with hearts.
-             *
-             * @param contact the contact object
-             * @param isBegin true if the contact is beginning, false if ending
-             */
-            private void handleHeartContact(Contact contact, boolean isBegin) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-
-                Object userDataA = fixtureA.getBody().getUserData();
-                Object userDataB = fixtureB.getBody().getUserData();
-
-                if ((userDataA instanceof Player && userDataB instanceof Heart) ||
-                        (userDataB instanceof Player && userDataA instanceof Heart)) {
-                    Heart heart = (userDataA instanceof Heart) ? (Heart) userDataA : (Heart) userDataB;
-                    if (isBegin) {
-                        heartsToCollect.add(heart);
+                case BUILD_MAZE -> {
+                    if (mazeMap.buildRows(ROWS_PER_LOAD_SLICE)) {
+                        loadingStage = CREATE_ENTITIES;
                     }
                 }
-            }
-
-            /**
-             * Handles contact with abilities.
-             *
-             * @param contact the contact object
-             * @param isBegin true if the contact is beginning, false if ending
-             */
-            private void handleAbilityContact(Contact contact, boolean isBegin) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-
-                Object userDataA = fixtureA.getBody().getUserData();
-                Object userDataB = fixtureB.getBody().getUserData();
-
-                if ((userDataA instanceof Player && userDataB instanceof Ability) ||
-                        (userDataB instanceof Player && userDataA instanceof Ability)) {
-                    Ability ability = (userDataA instanceof Ability) ? (Ability) userDataA : (Ability) userDataB;
-                    if (isBegin) {
-                        abilityToCollect.add(ability);
-                    }
+                case CREATE_ENTITIES -> {
+                    createEntities();
+                    loadingStage = LOAD_CHUNKS;
+                }
+                case LOAD_CHUNKS -> {
+                    // Load the chunks around the entry before the first physics step
+                    mazeMap.updateChunks(camera, player.getBody().getPosition());
+                    loadingStage = CREATE_HUD;
+                }
+                case CREATE_HUD -> {
+                    // The pixels were drawn while preparing the level, only the upload is left
+                    minimap = new Minimap(mazeMap.getGrid(), preparedLevel.takeMinimapPixmap());
+                    hud = new HUD(player, mazeMap, game.getAssets(), minimap);
+                    loadingStage = LOADED;
                 }
             }
+            if (TimeUtils.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+        }
+        return loadingStage == LOADED;
+    }
 
-            /**
-             * Handles contact with enemies.
-             *
-             * @param contact the contact object
-             * @param isBegin true if the contact is beginning, false if ending
-             */
-            private void handleEnemyContact(Contact contact, boolean isBegin) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-
-                Object userDataA = fixtureA.getBody().getUserData();
-                Object userDataB = fixtureB.getBody().getUserData();
-
-                if ((userDataA instanceof Player && userDataB instanceof Enemy) ||
-                        (userDataB instanceof Player && userDataA instanceof Enemy)) {
-                    Enemy enemy = (userDataA instanceof Enemy) ? (Enemy) userDataA : (Enemy) userDataB;
-                    if (isBegin && !enemy.isDizzy() && player.canTakeDamage()) {
-                        player.loseLives(1);
-                        enemySound.play();
-                    }
-                }
+    /**
+     * Gets how far loading the level has progressed.
+     *
+     * @return the progress between 0 and 1
+     */
+    public float getLoadingProgress() {
+        return switch (loadingStage) {
+            case LOAD_ASSETS -> 0.1f * game.getAssets().getProgress();
+            case PREPARE_LEVEL, CREATE_WORLD -> 0.1f;
+            case BUILD_MAZE -> 0.1f + 0.8f * mazeMap.getBuildProgress();
+            case CREATE_ENTITIES -> 0.9f;
+            case LOAD_CHUNKS -> 0.93f;
+            case CREATE_HUD -> 0.96f;
+            default -> 1f;
+        };
+    }
+
+    /**
+     * Creates the Box2D world and registers the contact handlers.
+     */
+    private void createWorld() {
+        Box2D.init();
+        gameWorld = new World(new Vector2(0, 0), true);
+        lighting = new LightingSystem(gameWorld, game.getLightingTier(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+        // Every handler below is for the player touching something, the player is always passed first
+        ContactDispatcher contacts = new ContactDispatcher();
+        contacts.onBegin(CollisionCategory.PLAYER, CollisionCategory.LASER_TRAP, (playerData, trap) -> {
+            LaserTrap laserTrap = (LaserTrap) trap;
+            if (!activeContactTraps.contains(laserTrap, true)) {
+                activeContactTraps.add(laserTrap);
             }
+            if (laserTrap.isDangerous()) {
+                player.loseLives(1);
+                laserSound.play();
+            }
+        });
+        contacts.onEnd(CollisionCategory.PLAYER, CollisionCategory.LASER_TRAP,
+                (playerData, trap) -> activeContactTraps.removeValue((LaserTrap) trap, true));
+        contacts.onBegin(CollisionCategory.PLAYER, CollisionCategory.FISH, this::collectOnContact);
+        contacts.onBegin(CollisionCategory.PLAYER, CollisionCategory.HEART, this::collectOnContact);
+        contacts.onBegin(CollisionCategory.PLAYER, CollisionCategory.ABILITY, this::collectOnContact);
+        contacts.onBegin(CollisionCategory.PLAYER, CollisionCategory.SLOW_TILE, (playerData, slowTile) -> {
+            player.applySlowEffect(5);
+            slowTileSound.play();
         });
+        contacts.onBegin(CollisionCategory.PLAYER, CollisionCategory.ENEMY, (playerData, enemy) -> {
+            player.beginEnemyContact();
+            if (!((Enemy) enemy).isDizzy() && player.canTakeDamage()) {
+                player.loseLives(1);
+                enemySound.play();
+            }
+        });
+        contacts.onEnd(CollisionCategory.PLAYER, CollisionCategory.ENEMY,
+                (playerData, enemy) -> player.endEnemyContact());
+        gameWorld.setContactListener(contacts);
+    }
+
+    /**
+     * Marks a fish, heart or ability the player touched as collected, the {@link PickupSystem} applies it.
+     *
+     * @param playerData the player
+     * @param pickup     the touched pickup
+     */
+    private void collectOnContact(Object playerData, Object pickup) {
+        ((GameObject) pickup).getEntity().add(CollectedComponent.INSTANCE);
+    }
 
-        // Load the maze
+    /**
+     * Creates the camera, the player, the pathfinder and the systems once the maze is built.
+     * The chunks around the entry and the HUD follow in their own loading slices.
+     */
+    private void createEntities() {
         int windowWidth = Gdx.graphics.getWidth();
         int windowHeight = Gdx.graphics.getHeight();
-        mazeMap = new MazeMap(mapPath, windowWidth, windowHeight, gameWorld);
         // Initialize the camera
         camera = new OrthographicCamera();
         camera.setToOrtho(false);
@@ -280,23 +300,38 @@ private void handleEnemyContact(Contact contact, boolean isBegin) {
         viewport.update(windowWidth, windowHeight, true);
 
         batch = new SpriteBatch();
+        drawCallProfiler = new DrawCallProfiler(batch);
+        performanceOverlay = new PerformanceOverlay(drawCallProfiler);
 
         // Initialize the player
         Vector2 entryPosition = findEntryPoint();
         float entryX = (entryPosition.x + 0.5f) * MazeMap.TILE_SIZE / 16f;
         float entryY = (entryPosition.y + 0.5f) * MazeMap.TILE_SIZE / 16f;
-        player = new Player(gameWorld, mazeMap, new Vector2(entryX, entryY));
+        player = new Player(gameWorld, mazeMap, new Vector2(entryX, entryY), game.getAssets());
 
         // Initialize the pathfinder and set it to the calculate player paths in the maze map
-        pathfinder = new Algorithm(mazeMap);
+        pathfinder = preparedLevel.getPathfinder();
         mazeMap.setPathfinder(pathfinder);
-        mazeMap.setPlayer(player);
+
+        // The enemies, traps and pickups were added to the engine while the maze was built
+        Engine engine = mazeMap.getEngine();
+        engine.addEntity(player.getEntity());
+        transformSystem = new TransformSystem();
+        trapTimerSystem = new TrapTimerSystem();
+        enemyAISystem = new EnemyAISystem(mazeMap, player, pathfinder);
+        pickupSystem = new PickupSystem(this::collectPickup);
+        trapAnimationSystem = new TrapAnimationSystem(mazeMap);
+        spriteRenderSystem = new SpriteRenderSystem(mazeMap);
+        engine.addSystem(transformSystem);
+        engine.addSystem(trapTimerSystem);
+        engine.addSystem(enemyAISystem);
+        engine.addSystem(pickupSystem);
+        engine.addSystem(trapAnimationSystem);
+        engine.addSystem(spriteRenderSystem);
 
         Vector2 playerPosition = player.getBody().getPosition();
         camera.position.set(playerPosition.x * MazeMap.TILE_SIZE, playerPosition.y * MazeMap.TILE_SIZE, 0);
         camera.update();
-
-        hud = new HUD(player, mazeMap);
     }
 
     /**
@@ -310,6 +345,26 @@ private Vector2 findEntryPoint() {
 
     @Override
     public void render(float delta) {
+        // Toggle the draw call report with F3
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            drawCallProfiler.toggle();
+        }
+        // Toggle the allocation report with F4
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            allocationCounter.toggle();
+        }
+        // Cycle the lighting quality with F5
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
+            lighting.setTier(lighting.getTier().next());
+            game.setLightingTier(lighting.getTier());
+        }
+        // Toggle the performance overlay with F6
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F6)) {
+            performanceOverlay.toggle();
+        }
+        drawCallProfiler.beginFrame();
+        allocationCounter.beginFrame();
+        performanceOverlay.beginFrame();
         ScreenUtils.clear(0, 0, 0, 1);
 
         // Handle game pause when Esc is pressed
@@ -318,58 +373,17 @@ public void render(float delta) {
             game.goToPauseMenu(this);
             return;
         }
+        performanceOverlay.endPhase(Phase.INPUT);
 
-        // Update player
-        player.update(delta);
-
-        // Update the animations of the laser traps
-        for (LaserTrap laserTrap : mazeMap.getLaserTraps()) {
-            laserTrap.update(delta);
+        // Run as many fixed simulation ticks as fit into the frame, so the game speed doesn't follow the frame rate
+        simulationClock.advance(delta);
+        while (simulationClock.tick()) {
+            simulate(SimulationClock.TIME_STEP);
         }
+        mazeMap.getAnimationClock().advance(delta);
 
-        // Update the animations of the enemies
-        for (Enemy enemy : mazeMap.getEnemies()) {
-            enemy.update(delta);
-        }
-
-        for (LaserTrap trap : activeContactTraps) {
-            if (trap.becameDangerous()) {
-                player.loseLives(1);
-            }
-        }
-
-        // Process collected fish
-        for (Fish fish : fishToCollect) {
-            mazeMap.removeGameObject(fish);
-            fish.destroyBody();
-            player.collectFish();
-            fishSound.play();
-        }
-        fishToCollect.clear();
-
-        // Process collected hearts
-        for (Heart heart : heartsToCollect) {
-            if (player.canGainLife()) {
-                player.addLife();
-                mazeMap.removeGameObject(heart);
-                heart.collect();
-            }
-        }
-        heartsToCollect.clear();
-
-        // Process collected abilities
-        for (Ability ability : abilityToCollect) {
-            player.startAbility();
-            game.pauseMazeMusic();
-            game.playAbilityMusic();
-            // Stun all enemies
-            for (Enemy enemy : mazeMap.getEnemies()) {
-                enemy.dizziness(6f);
-            }
-            mazeMap.removeGameObject(ability);
-            ability.collect();
-        }
-        abilityToCollect.clear();
+        // Process the fish, hearts and abilities touched during the ticks
+        pickupSystem.update(delta);
 
         // Check if ability just deactivated (every frame)
         if (wasAbilityActive && !player.isAbilityActive()) {
@@ -380,51 +394,142 @@ public void render(float delta) {
 
         // Disable exit points if player has collected 1 fish
         if (player.getCollectedFish() == 1) {
-            for (ExitPoint exit : mazeMap.getExitPoints()) {
-                exit.disableCollision();
+            List<ExitPoint> exitPoints = mazeMap.getExitPoints();
+            for (int i = 0; i < exitPoints.size(); i++) {
+                exitPoints.get(i).disableCollision();
             }
         }
+        performanceOverlay.endPhase(Phase.COLLECTIBLES);
 
-        checkGameStatus();
-        updateCamera();
+        // Stop here if the screen was left, as it has been disposed
+        if (checkGameStatus()) {
+            return;
+        }
 
-        playerPosition.set(player.getBody().getPosition());
+        // Draw the entities between their last two simulated positions
+        transformSystem.interpolate(simulationClock.getAlpha());
+        playerPosition.set(player.getRenderPosition());
+        updateCamera(delta);
+        performanceOverlay.endPhase(Phase.CAMERA);
+
+        mazeMap.updateChunks(camera, playerPosition);
+        performanceOverlay.endPhase(Phase.STREAMING);
+        minimap.update(playerPosition, mazeMap.getEnemies());
+        performanceOverlay.endPhase(Phase.MINIMAP);
 
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        mazeMap.render(batch);
-        player.render(batch);
+        mazeMap.render(batch, camera);
 
-        for (Enemy enemy : mazeMap.getEnemies()) {
-            enemy.render(batch);
-        }
+        // Everything that moves or animates is drawn in one pass, sorted by layer and texture
+        trapAnimationSystem.update(delta);
+        spriteRenderSystem.submit(renderQueue);
+        renderQueue.render(batch);
+        batch.end();
+        performanceOverlay.endPhase(Phase.MAP);
 
-        // Switch to screen coordinates for HUD rendering
-        batch.setProjectionMatrix(new Matrix4().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
-        hud.render(batch, playerPosition);
+        // The light map darkens the maze but not the HUD drawn after it
+        lighting.update(camera, playerPosition, mazeMap.getLaserTraps(), mazeMap.getExitPoints());
+        lighting.render();
+        performanceOverlay.endPhase(Phase.LIGHTING);
 
+        // The HUD switches to screen coordinates by itself
+        batch.begin();
+        hud.render(batch, playerPosition);
+        performanceOverlay.render(batch);
         batch.end();
+        performanceOverlay.endPhase(Phase.HUD);
+
+        drawCallProfiler.endFrame(delta);
+        allocationCounter.endFrame(delta);
+        performanceOverlay.endFrame(delta, gameWorld);
+    }
 
-        rayHandler.setCombinedMatrix(camera);
-        rayHandler.updateAndRender();
+    /**
+     * Advances the game by one fixed simulation tick: updates the player, runs the laser trap and enemy
+     * systems and steps the Box2D world.
+     *
+     * @param step the length of the tick in seconds
+     */
+    private void simulate(float step) {
+        transformSystem.update(step);
+
+        // Update player
+        player.update(step);
+        performanceOverlay.endPhase(Phase.PLAYER);
+
+        // Run the cycles of the laser traps
+        trapTimerSystem.update(step);
+        for (int i = 0; i < activeContactTraps.size; i++) {
+            if (activeContactTraps.get(i).becameDangerous()) {
+                player.loseLives(1);
+            }
+        }
+        performanceOverlay.endPhase(Phase.LASERS);
+
+        // Move the enemies
+        enemyAISystem.update(step);
+        performanceOverlay.endPhase(Phase.ENEMIES);
 
         // Update Box2D world
-        gameWorld.step(1 / 60f, 6, 2);
+        gameWorld.step(step, 6, 2);
+        performanceOverlay.endPhase(Phase.PHYSICS);
+    }
+
+    /**
+     * Applies the effect of a fish, heart or ability the player touched.
+     *
+     * @param pickup the touched pickup
+     */
+    private void collectPickup(PickupComponent pickup) {
+        switch (pickup.kind) {
+            case FISH -> {
+                Fish fish = (Fish) pickup.object;
+                mazeMap.removeGameObject(fish);
+                minimap.refreshTile(fish.getX(), fish.getY());
+                fish.destroyBody();
+                player.collectFish();
+                fishSound.play();
+            }
+            case HEART -> {
+                Heart heart = (Heart) pickup.object;
+                if (player.canGainLife()) {
+                    player.addLife();
+                    mazeMap.removeGameObject(heart);
+                    heart.collect();
+                }
+            }
+            case ABILITY -> {
+                Ability ability = (Ability) pickup.object;
+                player.startAbility();
+                game.pauseMazeMusic();
+                game.playAbilityMusic();
+                // Stun all enemies
+                List<Enemy> enemies = mazeMap.getEnemies();
+                for (int i = 0; i < enemies.size(); i++) {
+                    enemies.get(i).dizziness(6f);
+                }
+                mazeMap.removeGameObject(ability);
+                ability.collect();
+            }
+        }
     }
 
     /**
      * Updates the camera position and zoom based on player position and input.
+     *
+     * @param delta the time in seconds since the last frame
      */
-    private void updateCamera() {
-        Vector2 playerPosition = player.getBody().getPosition();
-        // Smooth interpolation
-        float lerpFactor = 0.2f;
-        camera.position.lerp(new Vector3(playerPosition.x * MazeMap.TILE_SIZE, playerPosition.y * MazeMap.TILE_SIZE, 0), lerpFactor);
+    private void updateCamera(float delta) {
+        // Smooth interpolation, covering the same share of the distance per second at any frame rate
+        float lerpFactor = 1 - (float) Math.pow(1 - 0.2f, delta * 60);
+        cameraTarget.set(playerPosition.x * MazeMap.TILE_SIZE, playerPosition.y * MazeMap.TILE_SIZE, 0);
+        camera.position.lerp(cameraTarget, lerpFactor);
 
         if (Gdx.input.isKeyPressed(Input.Keys.MINUS)) {
-            camera.zoom += CAMERA_ZOOM_SPEED;
+            camera.zoom += CAMERA_ZOOM_SPEED * delta * 60;
         } else if (Gdx.input.isKeyPressed(Input.Keys.EQUALS)) {
-            camera.zoom -= CAMERA_ZOOM_SPEED;
+            camera.zoom -= CAMERA_ZOOM_SPEED * delta * 60;
         }
 
         camera.zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, camera.zoom));
@@ -433,28 +538,32 @@ private void updateCamera() {
 
     /**
      * Checks the game status to determine if the player has won or lost.
+     *
+     * @return true if the game ended and another screen was shown
      */
-    private void checkGameStatus() {
+    private boolean checkGameStatus() {
         // Check for game over first
         if (player.getLives() <= 0) {
             game.goToGameOver(mapPath);
-            return;
+            return true;
         }
 
-        for (ExitPoint exitPoint : mazeMap.getExitPoints()) {
-            if (exitPoint.checkIfPlayerReachedExit(player, game)) {
+        List<ExitPoint> exitPoints = mazeMap.getExitPoints();
+        for (int i = 0; i < exitPoints.size(); i++) {
+            if (exitPoints.get(i).checkIfPlayerReachedExit(player, game)) {
                 int fishCollected = player.getCollectedFish();
                 int coinCollected = 0;
                 if (wasAbilityActive)
                     coinCollected = 1;
                 int heartCollected = 0;
-                if (heartsToCollect.isEmpty()) {
+                if (!pickupSystem.hasPendingPickups()) {
                     heartCollected = 1;
                 }
                 game.goToVictory(heartCollected, coinCollected, fishCollected);
-                return;
+                return true;
             }
         }
+        return false;
     }
 
     /**
@@ -463,7 +572,9 @@ private void checkGameStatus() {
     private void togglePause() {
         isPaused = !isPaused;
 
-        for (LaserTrap laserTrap : mazeMap.getLaserTraps()) {
+        List<LaserTrap> laserTraps = mazeMap.getLaserTraps();
+        for (int i = 0; i < laserTraps.size(); i++) {
+            LaserTrap laserTrap = laserTraps.get(i);
             if (isPaused) {
                 laserTrap.pauseTimer();
             } else {
@@ -482,6 +593,15 @@ public void resize(int width, int height) {
             // Only update if dimensions change
             viewport.update(width, height, true);
             camera.update();
+            if (hud != null) {
+                hud.resize(width, height);
+            }
+            if (lighting != null) {
+                lighting.resize(width, height);
+            }
+            if (performanceOverlay != null) {
+                performanceOverlay.resize(width, height);
+            }
         }
     }
 
@@ -501,5 +621,31 @@ public void hide() {
 
     @Override
     public void dispose() {
+        if (mazeMap != null) {
+            mazeMap.dispose();
+        }
+        if (hud != null) {
+            hud.dispose();
+        }
+        if (minimap != null) {
+            minimap.dispose();
+        }
+        if (lighting != null) {
+            lighting.dispose();
+        }
+        if (performanceOverlay != null) {
+            performanceOverlay.dispose();
+        }
+        if (preparedLevel != null) {
+            preparedLevel.dispose();
+        }
+        if (batch != null) {
+            batch.dispose();
+        }
+        // Last, as the lights and chunks above still hold bodies of the world
+        if (gameWorld != null) {
+            gameWorld.dispose();
+        }
+        game.getAssets().releaseLevelAssets();
     }
 }
@@ -0,0 +1,145 @@
+package de.tum.cit.fop.maze.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.map.PreparedLevel;
+
+/**
+ * Displays a progress bar while a level is loading.
+ * The map is parsed and preprocessed on a background thread while the level assets load on the
+ * render thread, then the textures and physics bodies are created in small slices so the window
+ * keeps responding.
+ */
+public class LoadingScreen implements Screen {
+    // Time spent building the level per frame, leaves room for drawing the screen at 60 FPS
+    private static final long BUILD_BUDGET_NANOS = 8_000_000L;
+    private static final int BUILD_BUDGET_MILLIS = (int) (BUILD_BUDGET_NANOS / 1_000_000L);
+
+    private final MazeRunnerGame game;
+    private final String mapPath;
+    private final Stage stage;
+    private final ProgressBar progressBar;
+    private final AsyncExecutor executor = new AsyncExecutor(1, "LevelLoader");
+    private final AsyncResult<PreparedLevel> preparedLevel;
+    private GameScreen gameScreen;
+
+    /**
+     * Constructs a new LoadingScreen and starts loading the map in the background.
+     *
+     * @param game    the main game class
+     * @param mapPath the path to the map file
+     */
+    public LoadingScreen(MazeRunnerGame game, String mapPath) {
+        this.game = game;
+        this.mapPath = mapPath;
+        stage = new Stage(new ScreenViewport(), game.getSpriteBatch());
+
+        Table table = new Table();
+        table.setFillParent(true);
+        stage.addActor(table);
+
+        table.add(new Label("Loading...", game.getSkin(), "title")).padBottom(50).row();
+        progressBar = new ProgressBar(0f, 1f, 0.01f, false, game.getSkin(), "default-horizontal");
+        table.add(progressBar).width(400);
+
+        preparedLevel = executor.submit(() -> PreparedLevel.prepare(mapPath));
+        // Loaded while the map is prepared, the game screen takes its own reference later
+        game.getAssets().queueLevelAssets();
+    }
+
+    /**
+     * Advances loading and renders the progress bar.
+     *
+     * @param delta the time in seconds since the last render
+     */
+    @Override
+    public void render(float delta) {
+        if (gameScreen == null && !preparedLevel.isDone()) {
+            game.getAssets().update(BUILD_BUDGET_MILLIS);
+        }
+        if (gameScreen == null && preparedLevel.isDone()) {
+            PreparedLevel level = null;
+            try {
+                level = preparedLevel.get();
+                gameScreen = new GameScreen(game, level);
+            } catch (RuntimeException e) {
+                Gdx.app.error("LoadingScreen", "Could not load map " + mapPath, e);
+                // Not yet owned by a game screen, so its minimap pixels would leak
+                if (level != null) {
+                    level.dispose();
+                }
+                game.goToMapSelection();
+                return;
+            }
+        }
+        if (gameScreen != null) {
+            boolean loaded;
+            try {
+                loaded = gameScreen.loadStep(BUILD_BUDGET_NANOS);
+            } catch (RuntimeException e) {
+                Gdx.app.error("LoadingScreen", "Could not build map " + mapPath, e);
+                // Dropped here, so going back doesn't dispose it a second time, see dispose
+                GameScreen failed = gameScreen;
+                gameScreen = null;
+                failed.dispose();
+                game.goToMapSelection();
+                return;
+            }
+            if (loaded) {
+                GameScreen loadedScreen = gameScreen;
+                // The game screen now belongs to the game, see dispose
+                gameScreen = null;
+                game.startGame(loadedScreen);
+                return;
+            }
+        }
+
+        // The background phase only counts for the first tenth of the bar
+        progressBar.setValue(gameScreen == null ? 0f : 0.1f + 0.9f * gameScreen.getLoadingProgress());
+
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        stage.act(delta);
+        stage.draw();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
+    @Override
+    public void dispose() {
+        executor.dispose();
+        stage.dispose();
+        game.getAssets().releaseLevelAssets();
+        // A level that was left while loading still holds its assets
+        if (gameScreen != null) {
+            gameScreen.dispose();
+        }
+    }
+
+    @Override
+    public void show() {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+}
@@ -12,14 +12,24 @@
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.badlogic.gdx.math.MathUtils;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.generator.MazeGenerator;
+import de.tum.cit.fop.maze.map.MapLoader;
+import de.tum.cit.fop.maze.map.MazeBinaryFormat;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * Represents the screen for selecting a map in the game.
  */
 public class MapSelectionScreen implements Screen {
+    // Sizes offered for randomly generated mazes, odd so the corridors line up with the borders
+    private static final int[] GENERATED_SIZES = {63, 255, 1023};
+
     private final MazeRunnerGame game;
     private final Stage stage;
     private final Texture backgroundTexture;
@@ -50,14 +60,20 @@ public MapSelectionScreen(MazeRunnerGame game) {
         // Title
         table.add(new Label("Select a Map", game.getSkin(), "title")).padBottom(50).row();
 
-        // List available maps
-        FileHandle[] mapFiles = Gdx.files.internal("maps").list(".properties");
-        if (mapFiles.length == 0) {
+        // List available maps, preferring the compiled .mazebin version when a map exists in both formats
+        Map<String, FileHandle> mapFiles = new TreeMap<>();
+        for (FileHandle file : Gdx.files.internal("maps").list()) {
+            if (!MapLoader.isMapFile(file)) continue;
+            FileHandle existing = mapFiles.get(file.nameWithoutExtension());
+            if (existing == null || MazeBinaryFormat.EXTENSION.equals(file.extension())) {
+                mapFiles.put(file.nameWithoutExtension(), file);
+            }
+        }
+        if (mapFiles.isEmpty()) {
             table.add(new Label("No maps available!", game.getSkin())).row();
-            return;
         }
 
-        for (FileHandle mapFile : mapFiles) {
+        for (FileHandle mapFile : mapFiles.values()) {
             TextButton mapButton = new TextButton(mapFile.nameWithoutExtension(), game.getSkin());
             table.add(mapButton).width(300).padBottom(20).row();
 
@@ -69,6 +85,21 @@ public void changed(ChangeEvent event, Actor actor) {
             });
         }
 
+        // Randomly generated mazes, each click uses a new seed
+        Table generatedTable = new Table();
+        for (int size : GENERATED_SIZES) {
+            TextButton generateButton = new TextButton("Random " + size + "x" + size, game.getSkin());
+            generatedTable.add(generateButton).width(300).pad(0, 10, 0, 10);
+
+            generateButton.addListener(new ChangeListener() {
+                @Override
+                public void changed(ChangeEvent event, Actor actor) {
+                    game.goToGame(MazeGenerator.toMapPath(MathUtils.random.nextLong(), size, size));
+                }
+            });
+        }
+        table.add(generatedTable).padTop(30).row();
+
         TextButton backButton = new TextButton("Back", game.getSkin());
         table.add(backButton).width(300).padTop(50);
         backButton.addListener(new ChangeListener() {
@@ -0,0 +1,795 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntSet;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * OpenGL stub for running the game headless. Nothing is drawn and no call allocates, but the stub keeps
+ * track of the textures, buffers, framebuffers, shaders and programs it hands out: using or deleting one
+ * that doesn't exist throws, a shader only compiles with a main function, a program only links with a
+ * vertex and a fragment shader and a framebuffer is only complete with an attachment. So a broken shader
+ * or framebuffer setup fails the test instead of passing silently.
+ */
+class HeadlessGL20 implements GL20 {
+    private int lastId;
+    private final IntSet textures = new IntSet();
+    private final IntSet buffers = new IntSet();
+    private final IntSet framebuffers = new IntSet();
+    private final IntSet renderbuffers = new IntSet();
+    private final IntSet shaders = new IntSet();
+    private final IntSet programs = new IntSet();
+    private final IntSet shadersWithMain = new IntSet();
+    private final IntSet compiledShaders = new IntSet();
+    private final IntSet linkedPrograms = new IntSet();
+    private final IntSet completeFramebuffers = new IntSet();
+    // Program ID to its attached vertex and fragment shader
+    private final IntIntMap vertexShaders = new IntIntMap();
+    private final IntIntMap fragmentShaders = new IntIntMap();
+    private final IntIntMap shaderTypes = new IntIntMap();
+    private int boundFramebuffer;
+
+    private int create(IntSet objects) {
+        objects.add(++lastId);
+        return lastId;
+    }
+
+    private static void check(IntSet objects, int id, String kind) {
+        if (id != 0 && !objects.contains(id)) {
+            throw new IllegalStateException("No " + kind + " with ID " + id);
+        }
+    }
+
+    private static void delete(IntSet objects, int id, String kind) {
+        check(objects, id, kind);
+        objects.remove(id);
+    }
+
+    private void create(IntSet objects, int count, IntBuffer ids) {
+        for (int i = 0; i < count; i++) ids.put(ids.position() + i, create(objects));
+    }
+
+    private static void delete(IntSet objects, int count, IntBuffer ids, String kind) {
+        for (int i = 0; i < count; i++) delete(objects, ids.get(ids.position() + i), kind);
+    }
+
+    private void attach(int attachment, IntSet objects, String kind) {
+        if (boundFramebuffer == 0) throw new IllegalStateException("No framebuffer bound for the " + kind);
+        if (attachment == 0) {
+            completeFramebuffers.remove(boundFramebuffer);
+            return;
+        }
+        check(objects, attachment, kind);
+        completeFramebuffers.add(boundFramebuffer);
+    }
+
+    @Override
+    public void glActiveTexture(int p1) {
+    }
+
+    @Override
+    public void glBindTexture(int p1, int p2) {
+        check(textures, p2, "texture");
+    }
+
+    @Override
+    public void glBlendFunc(int p1, int p2) {
+    }
+
+    @Override
+    public void glClear(int p1) {
+    }
+
+    @Override
+    public void glClearColor(float p1, float p2, float p3, float p4) {
+    }
+
+    @Override
+    public void glClearDepthf(float p1) {
+    }
+
+    @Override
+    public void glClearStencil(int p1) {
+    }
+
+    @Override
+    public void glColorMask(boolean p1, boolean p2, boolean p3, boolean p4) {
+    }
+
+    @Override
+    public void glCompressedTexImage2D(int p1, int p2, int p3, int p4, int p5, int p6, int p7, Buffer p8) {
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(int p1, int p2, int p3, int p4, int p5, int p6, int p7, int p8, Buffer p9) {
+    }
+
+    @Override
+    public void glCopyTexImage2D(int p1, int p2, int p3, int p4, int p5, int p6, int p7, int p8) {
+    }
+
+    @Override
+    public void glCopyTexSubImage2D(int p1, int p2, int p3, int p4, int p5, int p6, int p7, int p8) {
+    }
+
+    @Override
+    public void glCullFace(int p1) {
+    }
+
+    @Override
+    public void glDeleteTextures(int p1, IntBuffer p2) {
+        delete(textures, p1, p2, "texture");
+    }
+
+    @Override
+    public void glDeleteTexture(int p1) {
+        delete(textures, p1, "texture");
+    }
+
+    @Override
+    public void glDepthFunc(int p1) {
+    }
+
+    @Override
+    public void glDepthMask(boolean p1) {
+    }
+
+    @Override
+    public void glDepthRangef(float p1, float p2) {
+    }
+
+    @Override
+    public void glDisable(int p1) {
+    }
+
+    @Override
+    public void glDrawArrays(int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glDrawElements(int p1, int p2, int p3, Buffer p4) {
+    }
+
+    @Override
+    public void glEnable(int p1) {
+    }
+
+    @Override
+    public void glFinish() {
+    }
+
+    @Override
+    public void glFlush() {
+    }
+
+    @Override
+    public void glFrontFace(int p1) {
+    }
+
+    @Override
+    public void glGenTextures(int p1, IntBuffer p2) {
+        create(textures, p1, p2);
+    }
+
+    @Override
+    public int glGenTexture() {
+        return create(textures);
+    }
+
+    @Override
+    public int glGetError() {
+        return 0;
+    }
+
+    @Override
+    public void glGetIntegerv(int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public String glGetString(int p1) {
+        return "";
+    }
+
+    @Override
+    public void glHint(int p1, int p2) {
+    }
+
+    @Override
+    public void glLineWidth(float p1) {
+    }
+
+    @Override
+    public void glPixelStorei(int p1, int p2) {
+    }
+
+    @Override
+    public void glPolygonOffset(float p1, float p2) {
+    }
+
+    @Override
+    public void glReadPixels(int p1, int p2, int p3, int p4, int p5, int p6, Buffer p7) {
+    }
+
+    @Override
+    public void glScissor(int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glStencilFunc(int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glStencilMask(int p1) {
+    }
+
+    @Override
+    public void glStencilOp(int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glTexImage2D(int p1, int p2, int p3, int p4, int p5, int p6, int p7, int p8, Buffer p9) {
+    }
+
+    @Override
+    public void glTexParameterf(int p1, int p2, float p3) {
+    }
+
+    @Override
+    public void glTexSubImage2D(int p1, int p2, int p3, int p4, int p5, int p6, int p7, int p8, Buffer p9) {
+    }
+
+    @Override
+    public void glViewport(int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glAttachShader(int p1, int p2) {
+        check(programs, p1, "program");
+        check(shaders, p2, "shader");
+        if (!compiledShaders.contains(p2)) throw new IllegalStateException("Shader " + p2 + " is not compiled");
+        (shaderTypes.get(p2, 0) == GL_VERTEX_SHADER ? vertexShaders : fragmentShaders).put(p1, p2);
+    }
+
+    @Override
+    public void glBindAttribLocation(int p1, int p2, String p3) {
+    }
+
+    @Override
+    public void glBindBuffer(int p1, int p2) {
+        check(buffers, p2, "buffer");
+    }
+
+    @Override
+    public void glBindFramebuffer(int p1, int p2) {
+        check(framebuffers, p2, "framebuffer");
+        boundFramebuffer = p2;
+    }
+
+    @Override
+    public void glBindRenderbuffer(int p1, int p2) {
+        check(renderbuffers, p2, "renderbuffer");
+    }
+
+    @Override
+    public void glBlendColor(float p1, float p2, float p3, float p4) {
+    }
+
+    @Override
+    public void glBlendEquation(int p1) {
+    }
+
+    @Override
+    public void glBlendEquationSeparate(int p1, int p2) {
+    }
+
+    @Override
+    public void glBlendFuncSeparate(int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glBufferData(int p1, int p2, Buffer p3, int p4) {
+    }
+
+    @Override
+    public void glBufferSubData(int p1, int p2, int p3, Buffer p4) {
+    }
+
+    @Override
+    public int glCheckFramebufferStatus(int p1) {
+        if (boundFramebuffer == 0 || completeFramebuffers.contains(boundFramebuffer)) {
+            return GL_FRAMEBUFFER_COMPLETE;
+        }
+        return GL_FRAMEBUFFER_INCOMPLETE_MISSING_ATTACHMENT;
+    }
+
+    @Override
+    public void glCompileShader(int p1) {
+        check(shaders, p1, "shader");
+        if (shadersWithMain.contains(p1)) compiledShaders.add(p1);
+        else compiledShaders.remove(p1);
+    }
+
+    @Override
+    public int glCreateProgram() {
+        return create(programs);
+    }
+
+    @Override
+    public int glCreateShader(int p1) {
+        int shader = create(shaders);
+        shaderTypes.put(shader, p1);
+        return shader;
+    }
+
+    @Override
+    public void glDeleteBuffer(int p1) {
+        delete(buffers, p1, "buffer");
+    }
+
+    @Override
+    public void glDeleteBuffers(int p1, IntBuffer p2) {
+        delete(buffers, p1, p2, "buffer");
+    }
+
+    @Override
+    public void glDeleteFramebuffer(int p1) {
+        delete(framebuffers, p1, "framebuffer");
+        completeFramebuffers.remove(p1);
+        if (boundFramebuffer == p1) boundFramebuffer = 0;
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int p1, IntBuffer p2) {
+        for (int i = 0; i < p1; i++) glDeleteFramebuffer(p2.get(p2.position() + i));
+    }
+
+    @Override
+    public void glDeleteProgram(int p1) {
+        delete(programs, p1, "program");
+        linkedPrograms.remove(p1);
+        vertexShaders.remove(p1, 0);
+        fragmentShaders.remove(p1, 0);
+    }
+
+    @Override
+    public void glDeleteRenderbuffer(int p1) {
+        delete(renderbuffers, p1, "renderbuffer");
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(int p1, IntBuffer p2) {
+        delete(renderbuffers, p1, p2, "renderbuffer");
+    }
+
+    @Override
+    public void glDeleteShader(int p1) {
+        delete(shaders, p1, "shader");
+        shadersWithMain.remove(p1);
+        compiledShaders.remove(p1);
+        shaderTypes.remove(p1, 0);
+    }
+
+    @Override
+    public void glDetachShader(int p1, int p2) {
+        check(programs, p1, "program");
+        if (vertexShaders.get(p1, 0) == p2) vertexShaders.remove(p1, 0);
+        if (fragmentShaders.get(p1, 0) == p2) fragmentShaders.remove(p1, 0);
+    }
+
+    @Override
+    public void glDisableVertexAttribArray(int p1) {
+    }
+
+    @Override
+    public void glDrawElements(int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glEnableVertexAttribArray(int p1) {
+    }
+
+    @Override
+    public void glFramebufferRenderbuffer(int p1, int p2, int p3, int p4) {
+        attach(p4, renderbuffers, "renderbuffer");
+    }
+
+    @Override
+    public void glFramebufferTexture2D(int p1, int p2, int p3, int p4, int p5) {
+        attach(p4, textures, "texture");
+    }
+
+    @Override
+    public int glGenBuffer() {
+        return create(buffers);
+    }
+
+    @Override
+    public void glGenBuffers(int p1, IntBuffer p2) {
+        create(buffers, p1, p2);
+    }
+
+    @Override
+    public void glGenerateMipmap(int p1) {
+    }
+
+    @Override
+    public int glGenFramebuffer() {
+        return create(framebuffers);
+    }
+
+    @Override
+    public void glGenFramebuffers(int p1, IntBuffer p2) {
+        create(framebuffers, p1, p2);
+    }
+
+    @Override
+    public int glGenRenderbuffer() {
+        return create(renderbuffers);
+    }
+
+    @Override
+    public void glGenRenderbuffers(int p1, IntBuffer p2) {
+        create(renderbuffers, p1, p2);
+    }
+
+    @Override
+    public String glGetActiveAttrib(int p1, int p2, IntBuffer p3, IntBuffer p4) {
+        return "";
+    }
+
+    @Override
+    public String glGetActiveUniform(int p1, int p2, IntBuffer p3, IntBuffer p4) {
+        return "";
+    }
+
+    @Override
+    public void glGetAttachedShaders(int p1, int p2, Buffer p3, IntBuffer p4) {
+    }
+
+    @Override
+    public int glGetAttribLocation(int p1, String p2) {
+        return 0;
+    }
+
+    @Override
+    public void glGetBooleanv(int p1, Buffer p2) {
+    }
+
+    @Override
+    public void glGetBufferParameteriv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glGetFloatv(int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(int p1, int p2, int p3, IntBuffer p4) {
+    }
+
+    @Override
+    public void glGetProgramiv(int p1, int p2, IntBuffer p3) {
+        check(programs, p1, "program");
+        if (p2 == GL_LINK_STATUS) p3.put(0, linkedPrograms.contains(p1) ? GL_TRUE : GL_FALSE);
+    }
+
+    @Override
+    public String glGetProgramInfoLog(int p1) {
+        return "";
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glGetShaderiv(int p1, int p2, IntBuffer p3) {
+        check(shaders, p1, "shader");
+        if (p2 == GL_COMPILE_STATUS) p3.put(0, compiledShaders.contains(p1) ? GL_TRUE : GL_FALSE);
+    }
+
+    @Override
+    public String glGetShaderInfoLog(int p1) {
+        return "";
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(int p1, int p2, IntBuffer p3, IntBuffer p4) {
+    }
+
+    @Override
+    public void glGetTexParameterfv(int p1, int p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glGetTexParameteriv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glGetUniformfv(int p1, int p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glGetUniformiv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public int glGetUniformLocation(int p1, String p2) {
+        return 0;
+    }
+
+    @Override
+    public void glGetVertexAttribfv(int p1, int p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glGetVertexAttribPointerv(int p1, int p2, Buffer p3) {
+    }
+
+    @Override
+    public boolean glIsBuffer(int p1) {
+        return buffers.contains(p1);
+    }
+
+    @Override
+    public boolean glIsEnabled(int p1) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsFramebuffer(int p1) {
+        return framebuffers.contains(p1);
+    }
+
+    @Override
+    public boolean glIsProgram(int p1) {
+        return programs.contains(p1);
+    }
+
+    @Override
+    public boolean glIsRenderbuffer(int p1) {
+        return renderbuffers.contains(p1);
+    }
+
+    @Override
+    public boolean glIsShader(int p1) {
+        return shaders.contains(p1);
+    }
+
+    @Override
+    public boolean glIsTexture(int p1) {
+        return textures.contains(p1);
+    }
+
+    @Override
+    public void glLinkProgram(int p1) {
+        check(programs, p1, "program");
+        if (vertexShaders.containsKey(p1) && fragmentShaders.containsKey(p1)) linkedPrograms.add(p1);
+        else linkedPrograms.remove(p1);
+    }
+
+    @Override
+    public void glReleaseShaderCompiler() {
+    }
+
+    @Override
+    public void glRenderbufferStorage(int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glSampleCoverage(float p1, boolean p2) {
+    }
+
+    @Override
+    public void glShaderBinary(int p1, IntBuffer p2, int p3, Buffer p4, int p5) {
+    }
+
+    @Override
+    public void glShaderSource(int p1, String p2) {
+        check(shaders, p1, "shader");
+        if (p2.contains("void main")) shadersWithMain.add(p1);
+        else shadersWithMain.remove(p1);
+    }
+
+    @Override
+    public void glStencilFuncSeparate(int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glStencilMaskSeparate(int p1, int p2) {
+    }
+
+    @Override
+    public void glStencilOpSeparate(int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glTexParameterfv(int p1, int p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glTexParameteri(int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glTexParameteriv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glUniform1f(int p1, float p2) {
+    }
+
+    @Override
+    public void glUniform1fv(int p1, int p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glUniform1fv(int p1, int p2, float[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniform1i(int p1, int p2) {
+    }
+
+    @Override
+    public void glUniform1iv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glUniform1iv(int p1, int p2, int[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniform2f(int p1, float p2, float p3) {
+    }
+
+    @Override
+    public void glUniform2fv(int p1, int p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glUniform2fv(int p1, int p2, float[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniform2i(int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glUniform2iv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glUniform2iv(int p1, int p2, int[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniform3f(int p1, float p2, float p3, float p4) {
+    }
+
+    @Override
+    public void glUniform3fv(int p1, int p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glUniform3fv(int p1, int p2, float[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniform3i(int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glUniform3iv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glUniform3iv(int p1, int p2, int[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniform4f(int p1, float p2, float p3, float p4, float p5) {
+    }
+
+    @Override
+    public void glUniform4fv(int p1, int p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glUniform4fv(int p1, int p2, float[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniform4i(int p1, int p2, int p3, int p4, int p5) {
+    }
+
+    @Override
+    public void glUniform4iv(int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glUniform4iv(int p1, int p2, int[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int p1, int p2, boolean p3, FloatBuffer p4) {
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int p1, int p2, boolean p3, float[] p4, int p5) {
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int p1, int p2, boolean p3, FloatBuffer p4) {
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int p1, int p2, boolean p3, float[] p4, int p5) {
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int p1, int p2, boolean p3, FloatBuffer p4) {
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int p1, int p2, boolean p3, float[] p4, int p5) {
+    }
+
+    @Override
+    public void glUseProgram(int p1) {
+        check(programs, p1, "program");
+        if (p1 != 0 && !linkedPrograms.contains(p1)) throw new IllegalStateException("Program " + p1 + " is not linked");
+    }
+
+    @Override
+    public void glValidateProgram(int p1) {
+    }
+
+    @Override
+    public void glVertexAttrib1f(int p1, float p2) {
+    }
+
+    @Override
+    public void glVertexAttrib1fv(int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glVertexAttrib2f(int p1, float p2, float p3) {
+    }
+
+    @Override
+    public void glVertexAttrib2fv(int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glVertexAttrib3f(int p1, float p2, float p3, float p4) {
+    }
+
+    @Override
+    public void glVertexAttrib3fv(int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glVertexAttrib4f(int p1, float p2, float p3, float p4, float p5) {
+    }
+
+    @Override
+    public void glVertexAttrib4fv(int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glVertexAttribPointer(int p1, int p2, int p3, boolean p4, int p5, Buffer p6) {
+    }
+
+    @Override
+    public void glVertexAttribPointer(int p1, int p2, int p3, boolean p4, int p5, int p6) {
+    }
+}
@@ -0,0 +1,90 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import de.tum.cit.fop.maze.screens.GameScreen;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs a level headless and checks that a frame of the running game allocates nothing on the heap,
+ * once the first frames have filled the caches, grown the reused buffers and been compiled by the JIT.
+ * Measured with the allocation counter of the render thread, like the F4 report of the game.
+ */
+public class SteadyStateAllocationTest {
+    // Player, pickups, a laser trap and a wandering enemy, see the comment in the map file
+    private static final String MAP_PATH = "maps/allocation-test.properties";
+    private static final int WARM_UP_FRAMES = 1000;
+    private static final int MEASURED_FRAMES = 600;
+    // The game code itself allocates nothing, but the JVM occasionally does, e.g. when a method is
+    // recompiled during the measured frames. A single 16-byte object per frame would already add up
+    // to 9600 bytes, so this still catches any allocation in the game loop.
+    private static final long MAX_BYTES = 1024;
+
+    @Test
+    public void steadyStateFrameAllocatesNothing() throws Exception {
+        com.sun.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() ? bean : null;
+        assumeTrue(threads != null, "Allocation counting is not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        CompletableFuture<Long> allocatedBytes = new CompletableFuture<>();
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // Render as fast as possible, the frames pass simulated time anyway
+        config.updatesPerSecond = 0;
+        new HeadlessApplication(new ApplicationAdapter() {
+            private MazeRunnerGame game;
+            private GameScreen gameScreen;
+            private int frame;
+            private long bytesAtStart;
+
+            @Override
+            public void create() {
+                Gdx.gl = Gdx.gl20 = new HeadlessGL20();
+                game = new MazeRunnerGame(null);
+                game.create();
+                gameScreen = new GameScreen(game, MAP_PATH);
+                // Loads the level at once, see GameScreen.show
+                game.startGame(gameScreen);
+            }
+
+            @Override
+            public void render() {
+                if (allocatedBytes.isDone()) return;
+                try {
+                    if (frame == WARM_UP_FRAMES) {
+                        bytesAtStart = threads.getCurrentThreadAllocatedBytes();
+                    }
+                    gameScreen.render(SimulationClock.TIME_STEP);
+                    frame++;
+                    if (game.getScreen() != gameScreen) {
+                        throw new AssertionError("The level ended after " + frame + " frames");
+                    }
+                    if (frame == WARM_UP_FRAMES + MEASURED_FRAMES) {
+                        allocatedBytes.complete(threads.getCurrentThreadAllocatedBytes() - bytesAtStart);
+                        Gdx.app.exit();
+                    }
+                } catch (Throwable e) {
+                    allocatedBytes.completeExceptionally(e);
+                    Gdx.app.exit();
+                }
+            }
+
+            @Override
+            public void dispose() {
+                if (game != null) game.dispose();
+            }
+        }, config);
+
+        long bytes = allocatedBytes.get(2, TimeUnit.MINUTES);
+        assertTrue(bytes <= MAX_BYTES, bytes + " bytes allocated in " + MEASURED_FRAMES + " steady-state frames");
+    }
+}